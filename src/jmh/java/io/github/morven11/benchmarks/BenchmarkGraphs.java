@@ -0,0 +1,53 @@
+package io.github.morven11.benchmarks;
+
+import io.github.morven11.graphs.AdjacencyStorage;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is BenchmarkGraphs class, it turns the edges of a GraphFamily into graphs.
+ */
+final class BenchmarkGraphs {
+
+  private BenchmarkGraphs() {
+  }
+
+  static List<Node<Integer>> nodes(int numNodes) {
+    List<Node<Integer>> nodes = new ArrayList<>(numNodes);
+    for (int id = 0; id < numNodes; id++) {
+      nodes.add(new Node<>(id));
+    }
+    return nodes;
+  }
+
+  static Graph<Integer> undirected(EdgeList edges, List<Node<Integer>> nodes) {
+    return undirected(edges, nodes, AdjacencyStorage.ORDERED);
+  }
+
+  static Graph<Integer> undirected(EdgeList edges, List<Node<Integer>> nodes,
+                                   AdjacencyStorage storage) {
+    Graph<Integer> graph = new UndirectedGraph<>(storage);
+    fill(graph, edges, nodes);
+    return graph;
+  }
+
+  static AdjacencyStorage storage(String name) {
+    return switch (name) {
+      case "ORDERED" -> AdjacencyStorage.ORDERED;
+      case "HASHED" -> AdjacencyStorage.HASHED;
+      case "INDEXED" -> AdjacencyStorage.INDEXED;
+      default -> throw new IllegalArgumentException("unknown storage: " + name);
+    };
+  }
+
+  static void fill(Graph<Integer> graph, EdgeList edges, List<Node<Integer>> nodes) {
+    for (int i = 0; i < edges.size(); i++) {
+      graph.addEdge(edges.getWeight(i), nodes.get(edges.getSource(i)),
+              nodes.get(edges.getDestination(i)));
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package io.github.morven11.benchmarks;
+
+import io.github.morven11.graphs.EdgeList;
+import java.util.Random;
+
+/**
+ * This is GraphFamily enum, the shapes of graph used by the benchmarks.
+ * Every family builds about the given number of edges over node ids.
+ */
+public enum GraphFamily {
+
+  /**
+   * A spanning path plus random edges, about 4 edges per node.
+   */
+  RANDOM_SPARSE {
+    @Override
+    int numNodes(int numEdges) {
+      return Math.max(2, numEdges / 4);
+    }
+
+    @Override
+    void fill(EdgeList edges, int numNodes, int numEdges, Random random) {
+      for (int node = 1; node < numNodes; node++) {
+        edges.add(random.nextInt(MAX_WEIGHT), random.nextInt(node), node);
+      }
+      while (edges.size() < numEdges) {
+        edges.add(random.nextInt(MAX_WEIGHT), random.nextInt(numNodes), random.nextInt(numNodes));
+      }
+    }
+  },
+
+  /**
+   * A square grid, every node joined to its right and lower neighbour.
+   */
+  GRID {
+    @Override
+    int numNodes(int numEdges) {
+      int side = side(numEdges);
+      return side * side;
+    }
+
+    @Override
+    void fill(EdgeList edges, int numNodes, int numEdges, Random random) {
+      int side = side(numEdges);
+      for (int row = 0; row < side; row++) {
+        for (int column = 0; column < side; column++) {
+          int node = row * side + column;
+          if (column + 1 < side) {
+            edges.add(random.nextInt(MAX_WEIGHT), node, node + 1);
+          }
+          if (row + 1 < side) {
+            edges.add(random.nextInt(MAX_WEIGHT), node, node + side);
+          }
+        }
+      }
+    }
+
+    private int side(int numEdges) {
+      return Math.max(2, (int) Math.sqrt(numEdges / 2.0));
+    }
+  },
+
+  /**
+   * A complete graph, every pair of nodes is joined.
+   */
+  COMPLETE {
+    @Override
+    int numNodes(int numEdges) {
+      return Math.max(2, (int) Math.sqrt(2.0 * numEdges));
+    }
+
+    @Override
+    void fill(EdgeList edges, int numNodes, int numEdges, Random random) {
+      for (int source = 0; source < numNodes; source++) {
+        for (int destination = source + 1; destination < numNodes; destination++) {
+          edges.add(random.nextInt(MAX_WEIGHT), source, destination);
+        }
+      }
+    }
+  },
+
+  /**
+   * A preferential attachment graph, every new node joins 4 nodes picked
+   * by degree, so a few hubs get most of the edges.
+   */
+  POWER_LAW {
+    @Override
+    int numNodes(int numEdges) {
+      return Math.max(5, numEdges / 4);
+    }
+
+    @Override
+    void fill(EdgeList edges, int numNodes, int numEdges, Random random) {
+      int[] endpoints = new int[2 * numEdges + 2];
+      int numEndpoints = 0;
+      endpoints[numEndpoints++] = 0;
+      endpoints[numEndpoints++] = 1;
+      edges.add(random.nextInt(MAX_WEIGHT), 0, 1);
+      for (int node = 2; node < numNodes; node++) {
+        for (int link = 0; link < 4 && edges.size() < numEdges; link++) {
+          int target = endpoints[random.nextInt(numEndpoints)];
+          edges.add(random.nextInt(MAX_WEIGHT), node, target);
+          endpoints[numEndpoints++] = node;
+          endpoints[numEndpoints++] = target;
+        }
+      }
+    }
+  };
+
+  private static final int MAX_WEIGHT = 1 << 20;
+
+  abstract int numNodes(int numEdges);
+
+  abstract void fill(EdgeList edges, int numNodes, int numEdges, Random random);
+
+  /**
+   * This method builds the edges of a graph of the family.
+   *
+   * @param numEdges The expected number of edges.
+   * @param seed     The seed of the random weights.
+   * @return The edges as node ids, node ids are in [0, numNodes(numEdges)).
+   */
+  public EdgeList edges(int numEdges, long seed) {
+    EdgeList edges = new EdgeList(numEdges);
+    fill(edges, numNodes(numEdges), numEdges, new Random(seed));
+    return edges;
+  }
+}
@@ -0,0 +1,144 @@
+package io.github.morven11.benchmarks;
+
+import io.github.morven11.graphs.Edge;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This is GraphLookupBenchmark class, it measures the lookups of single
+ * edges. With the gc profiler hasEdge and getWeight should show no
+ * allocation per operation, getEdge allocates the view of an Edge looked
+ * up from its other end and the Integer overload also boxes every weight
+ * outside of the Integer cache.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GraphLookupBenchmark {
+
+  private static final int WEIGHT_OFFSET = 1000;
+
+  @Param({"RANDOM_SPARSE", "POWER_LAW"})
+  private GraphFamily family;
+
+  @Param({"10000"})
+  private int numEdges;
+
+  @Param({"ORDERED", "HASHED", "INDEXED"})
+  private String storage;
+
+  private Graph<Integer> graph;
+  private int[] weights;
+  private Node<Integer>[] sources;
+  private Node<Integer>[] destinations;
+  private int next;
+
+  /**
+   * This method builds the graph once per trial, the weights are moved
+   * out of the Integer cache so that boxing them allocates.
+   */
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    EdgeList edges = this.family.edges(this.numEdges, 42);
+    List<Node<Integer>> nodes = BenchmarkGraphs.nodes(this.family.numNodes(this.numEdges));
+    EdgeList shifted = new EdgeList(edges.size());
+    for (int i = 0; i < edges.size(); i++) {
+      shifted.add(edges.getWeight(i) + WEIGHT_OFFSET, edges.getSource(i),
+              edges.getDestination(i));
+    }
+    this.graph = BenchmarkGraphs.undirected(shifted, nodes, BenchmarkGraphs.storage(this.storage));
+    int size = this.graph.getNumEdges();
+    this.weights = new int[size];
+    this.sources = (Node<Integer>[]) new Node<?>[size];
+    this.destinations = (Node<Integer>[]) new Node<?>[size];
+    int i = 0;
+    for (Edge<Integer> edge : this.graph.getAllEdges()) {
+      // looked up from the destination, so the oriented view is used
+      this.weights[i] = edge.getWeight();
+      this.sources[i] = edge.getDestination();
+      this.destinations[i] = edge.getSource();
+      i++;
+    }
+  }
+
+  private int nextEdge() {
+    int current = this.next;
+    this.next = current + 1 == this.weights.length ? 0 : current + 1;
+    return current;
+  }
+
+  /**
+   * This method measures a lookup with a primitive weight.
+   *
+   * @return The found Edge.
+   */
+  @Benchmark
+  public Edge<Integer> getEdge() {
+    int i = nextEdge();
+    return this.graph.getEdge(this.weights[i], this.sources[i], this.destinations[i]);
+  }
+
+  /**
+   * This method measures a lookup with a boxed weight.
+   *
+   * @return The found Edge.
+   */
+  @Benchmark
+  public Edge<Integer> getEdgeBoxed() {
+    int i = nextEdge();
+    return this.graph.getEdge(Integer.valueOf(this.weights[i]),
+            this.sources[i], this.destinations[i]);
+  }
+
+  /**
+   * This method measures a probe with a primitive weight that needs no Edge.
+   *
+   * @return True if the Edge was found.
+   */
+  @Benchmark
+  public boolean hasEdge() {
+    int i = nextEdge();
+    return this.graph.hasEdge(this.weights[i], this.sources[i], this.destinations[i]);
+  }
+
+  /**
+   * This method measures reading the weight of an Edge that needs no Edge.
+   *
+   * @return The weight.
+   */
+  @Benchmark
+  public int getWeight() {
+    int i = nextEdge();
+    return this.graph.getWeight(this.sources[i], this.destinations[i]);
+  }
+
+  /**
+   * This method measures updating the weight of an Edge back and forth,
+   * only the new weight is boxed when it is stored.
+   *
+   * @return True if the Edge was updated.
+   */
+  @Benchmark
+  public boolean updateEdge() {
+    int i = nextEdge();
+    int weight = this.weights[i];
+    int newWeight = weight ^ 1;
+    this.weights[i] = newWeight;
+    return this.graph.updateEdge(weight, this.sources[i], this.destinations[i], newWeight);
+  }
+}
@@ -0,0 +1,154 @@
+package io.github.morven11.benchmarks;
+
+import io.github.morven11.graphs.AdjacencyStorage;
+import io.github.morven11.graphs.DirectedGraph;
+import io.github.morven11.graphs.Edge;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.GraphBuilder;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This is GraphMutationBenchmark class, it measures how a Graph is built,
+ * listed and pruned.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphMutationBenchmark {
+
+  @Param({"RANDOM_SPARSE", "GRID", "COMPLETE", "POWER_LAW"})
+  private GraphFamily family;
+
+  @Param({"1000", "10000", "100000"})
+  private int numEdges;
+
+  @Param({"ORDERED", "HASHED", "INDEXED"})
+  private String storage;
+
+  private EdgeList edges;
+  private List<Node<Integer>> nodes;
+  private Graph<Integer> graph;
+
+  /**
+   * This method builds the edges once per trial.
+   */
+  @Setup(Level.Trial)
+  public void setupTrial() {
+    this.edges = this.family.edges(this.numEdges, 42);
+    this.nodes = BenchmarkGraphs.nodes(this.family.numNodes(this.numEdges));
+  }
+
+  /**
+   * This method builds a fresh graph for every iteration.
+   */
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    this.graph = BenchmarkGraphs.undirected(this.edges, this.nodes,
+            BenchmarkGraphs.storage(this.storage));
+  }
+
+  /**
+   * This method measures adding every edge to an empty graph.
+   *
+   * @return The built graph.
+   */
+  @Benchmark
+  public Graph<Integer> addEdge() {
+    Graph<Integer> empty = new UndirectedGraph<>(BenchmarkGraphs.storage(this.storage));
+    BenchmarkGraphs.fill(empty, this.edges, this.nodes);
+    return empty;
+  }
+
+  /**
+   * This method measures building the same graph with a GraphBuilder.
+   *
+   * @return The built graph.
+   */
+  @Benchmark
+  public Graph<Integer> build() {
+    return new GraphBuilder<Integer>(false, BenchmarkGraphs.storage(this.storage))
+            .addEdges(this.edges, this.nodes)
+            .build();
+  }
+
+  /**
+   * This method measures walking every edge of the sorted view, the view
+   * itself is built by the first call and then only read.
+   *
+   * @return The total weight.
+   */
+  @Benchmark
+  public long getAllEdges() {
+    long total = 0;
+    for (Edge<Integer> edge : this.graph.getAllEdges()) {
+      total += edge.getWeight();
+    }
+    return total;
+  }
+
+  /**
+   * This method measures removing every node with its edges,
+   * one call empties a full graph of the kind of the removal state.
+   *
+   * @param removal The graph rebuilt for this call.
+   * @return The number of removed nodes.
+   */
+  @Benchmark
+  public int removeNode(RemovalState removal) {
+    int removed = 0;
+    for (Node<Integer> node : this.nodes) {
+      if (removal.graph.removeNode(node)) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * This is RemovalState class, a full graph built again before every call
+   * of a removal benchmark so no call runs on a graph already emptied.
+   * A DIRECTED graph searches every node for the incoming edges of a
+   * removed node, a DIRECTED_INCOMING_INDEX one keeps them.
+   */
+  @State(Scope.Thread)
+  public static class RemovalState {
+
+    @Param({"UNDIRECTED", "DIRECTED", "DIRECTED_INCOMING_INDEX"})
+    private String kind;
+
+    private Graph<Integer> graph;
+
+    /**
+     * This method builds the graph that the next call empties.
+     *
+     * @param benchmark The benchmark with the edges of the trial.
+     */
+    @Setup(Level.Invocation)
+    public void setup(GraphMutationBenchmark benchmark) {
+      AdjacencyStorage storage = BenchmarkGraphs.storage(benchmark.storage);
+      this.graph = switch (this.kind) {
+        case "UNDIRECTED" -> new UndirectedGraph<>(storage);
+        case "DIRECTED" -> new DirectedGraph<>(storage);
+        case "DIRECTED_INCOMING_INDEX" -> new DirectedGraph<>(storage, true);
+        default -> throw new IllegalArgumentException("unknown kind: " + this.kind);
+      };
+      BenchmarkGraphs.fill(this.graph, benchmark.edges, benchmark.nodes);
+    }
+  }
+}
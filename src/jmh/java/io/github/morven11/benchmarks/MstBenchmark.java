@@ -0,0 +1,80 @@
+package io.github.morven11.benchmarks;
+
+import io.github.morven11.algorithm.Boruvka;
+import io.github.morven11.algorithm.FilterKruskal;
+import io.github.morven11.algorithm.Kruskal;
+import io.github.morven11.algorithm.Mst;
+import io.github.morven11.algorithm.MstAlgorithm;
+import io.github.morven11.algorithm.Prim;
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.Graph;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This is MstBenchmark class, it measures new Mst(...) with every engine.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MstBenchmark {
+
+  @Param({"RANDOM_SPARSE", "GRID", "COMPLETE", "POWER_LAW"})
+  private GraphFamily family;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  private int numEdges;
+
+  @Param({"KRUSKAL", "FILTER_KRUSKAL", "BORUVKA", "PRIM"})
+  private String engine;
+
+  private Graph<Integer> graph;
+  private CsrGraph<Integer> csrGraph;
+  private MstAlgorithm algorithm;
+
+  /**
+   * This method builds the graph once per trial.
+   */
+  @Setup
+  public void setup() {
+    this.graph = BenchmarkGraphs.undirected(this.family.edges(this.numEdges, 42),
+            BenchmarkGraphs.nodes(this.family.numNodes(this.numEdges)));
+    this.csrGraph = new CsrGraph<>(this.graph);
+    switch (this.engine) {
+      case "FILTER_KRUSKAL" -> this.algorithm = new FilterKruskal();
+      case "BORUVKA" -> this.algorithm = new Boruvka();
+      case "PRIM" -> this.algorithm = new Prim();
+      default -> this.algorithm = new Kruskal();
+    }
+  }
+
+  /**
+   * This method measures the whole MST from the Graph, CSR copy included.
+   *
+   * @return The MST.
+   */
+  @Benchmark
+  public Mst<Integer> mstFromGraph() {
+    return new Mst<>(this.graph, this.algorithm);
+  }
+
+  /**
+   * This method measures the MST from an existing CsrGraph.
+   *
+   * @return The MST.
+   */
+  @Benchmark
+  public Mst<Integer> mstFromCsrGraph() {
+    return new Mst<>(this.csrGraph, this.algorithm);
+  }
+}
@@ -0,0 +1,84 @@
+package io.github.morven11.benchmarks;
+
+import io.github.morven11.algorithm.MstQueryIndex;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This is MstQueryBenchmark class, it measures the path queries
+ * of an MstQueryIndex between random connected nodes.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MstQueryBenchmark {
+
+  private static final int NUM_QUERIES = 1 << 12;
+
+  @Param({"RANDOM_SPARSE", "GRID", "POWER_LAW"})
+  private GraphFamily family;
+
+  @Param({"10000", "1000000"})
+  private int numEdges;
+
+  private MstQueryIndex<Integer> index;
+  private int[] firsts;
+  private int[] seconds;
+  private int next;
+
+  /**
+   * This method builds the index and the queries once per trial.
+   */
+  @Setup
+  public void setup() {
+    int numNodes = this.family.numNodes(this.numEdges);
+    this.index = new MstQueryIndex<>(BenchmarkGraphs.undirected(
+            this.family.edges(this.numEdges, 42), BenchmarkGraphs.nodes(numNodes)));
+    this.firsts = new int[NUM_QUERIES];
+    this.seconds = new int[NUM_QUERIES];
+    Random random = new Random(7);
+    int found = 0;
+    while (found < NUM_QUERIES) {
+      int first = random.nextInt(numNodes);
+      int second = random.nextInt(numNodes);
+      if (this.index.connected(first, second)) {
+        this.firsts[found] = first;
+        this.seconds[found] = second;
+        found++;
+      }
+    }
+  }
+
+  /**
+   * This method measures the heaviest edge between two nodes.
+   *
+   * @return The weight.
+   */
+  @Benchmark
+  public int getMaxEdge() {
+    int i = this.next++ & (NUM_QUERIES - 1);
+    return this.index.getMaxEdge(this.firsts[i], this.seconds[i]);
+  }
+
+  /**
+   * This method measures the cost of the path between two nodes.
+   *
+   * @return The cost.
+   */
+  @Benchmark
+  public long getPathCost() {
+    int i = this.next++ & (NUM_QUERIES - 1);
+    return this.index.getPathCost(this.firsts[i], this.seconds[i]);
+  }
+}
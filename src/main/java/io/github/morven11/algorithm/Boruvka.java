@@ -0,0 +1,131 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This is Boruvka class, in every round each component picks its cheapest
+ * outgoing edge in parallel and then the picked edges are contracted.
+ * It needs O(log V) rounds. Ties are broken by the position of the edge,
+ * so the picked edges never close a cycle and can be joined in parallel
+ * into a ConcurrentDisjointSet.
+ */
+public class Boruvka implements MstAlgorithm {
+
+  private static final int CHUNK_SIZE = 1 << 12;
+  private static final long NONE = Long.MAX_VALUE;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * This is the constructor of the Boruvka class,
+   * it runs on the common pool.
+   */
+  public Boruvka() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * This is the constructor of the Boruvka class.
+   *
+   * @param pool The pool used by the rounds.
+   */
+  public Boruvka(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("pool must not be null");
+    }
+    this.pool = pool;
+  }
+
+  @Override
+  public EdgeList compute(CsrGraph<?> graph) {
+    int numNodes = graph.getNumNodes();
+    EdgeList edges = graph.toEdgeList();
+    ConcurrentDisjointSet subsets = new ConcurrentDisjointSet(numNodes);
+    EdgeList tree = new EdgeList(Math.max(0, numNodes - 1));
+    int[] components = new int[numNodes];
+    AtomicLongArray cheapest = new AtomicLongArray(numNodes);
+    int[] picked = new int[numNodes];
+    AtomicInteger numPicked = new AtomicInteger();
+    int[] alive = new int[edges.size()];
+    for (int i = 0; i < alive.length; i++) {
+      alive[i] = i;
+    }
+    int numAlive = alive.length;
+    while (numAlive > 0 && tree.size() < numNodes - 1) {
+      int numNodeChunks = chunks(numNodes);
+      this.pool.invoke(new ChunkTask(0, numNodeChunks, chunk -> {
+        for (int node = chunk * CHUNK_SIZE; node < end(chunk, numNodes); node++) {
+          components[node] = subsets.find(node);
+          cheapest.set(node, NONE);
+        }
+      }));
+      int[] currentAlive = alive;
+      int currentNumAlive = numAlive;
+      this.pool.invoke(new ChunkTask(0, chunks(currentNumAlive), chunk -> {
+        for (int i = chunk * CHUNK_SIZE; i < end(chunk, currentNumAlive); i++) {
+          int index = currentAlive[i];
+          int source = components[edges.getSource(index)];
+          int destination = components[edges.getDestination(index)];
+          if (source != destination) {
+            long key = ((long) edges.getWeight(index) << 32) | index;
+            offer(cheapest, source, key);
+            offer(cheapest, destination, key);
+          }
+        }
+      }));
+      numPicked.set(0);
+      this.pool.invoke(new ChunkTask(0, numNodeChunks, chunk -> {
+        for (int node = chunk * CHUNK_SIZE; node < end(chunk, numNodes); node++) {
+          long key = cheapest.get(node);
+          int index = (int) key;
+          if (key != NONE && subsets.union(edges.getSource(index), edges.getDestination(index))) {
+            picked[numPicked.getAndIncrement()] = index;
+          }
+        }
+      }));
+      int added = numPicked.get();
+      if (added == 0) {
+        break;
+      }
+      Arrays.sort(picked, 0, added);
+      for (int i = 0; i < added; i++) {
+        int index = picked[i];
+        tree.add(edges.getWeight(index), edges.getSource(index), edges.getDestination(index));
+      }
+      numAlive = compact(edges, subsets, alive, numAlive);
+    }
+    return tree;
+  }
+
+  private int compact(EdgeList edges, ConcurrentDisjointSet subsets,
+                      int[] alive, int numAlive) {
+    int kept = 0;
+    for (int i = 0; i < numAlive; i++) {
+      int index = alive[i];
+      if (subsets.find(edges.getSource(index)) != subsets.find(edges.getDestination(index))) {
+        alive[kept++] = index;
+      }
+    }
+    return kept;
+  }
+
+  private static void offer(AtomicLongArray cheapest, int component, long key) {
+    long current = cheapest.get(component);
+    while (key < current && !cheapest.compareAndSet(component, current, key)) {
+      current = cheapest.get(component);
+    }
+  }
+
+  private static int chunks(int size) {
+    return (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+  }
+
+  private static int end(int chunk, int size) {
+    return Math.min(size, (chunk + 1) * CHUNK_SIZE);
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.morven11.algorithm;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This is ChunkTask class, it splits the chunks [from, to) in halves
+ * until every fork works on a single chunk.
+ */
+final class ChunkTask extends RecursiveAction {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int from;
+  private final int to;
+  private final transient Action action;
+
+  /**
+   * This is the constructor of the ChunkTask class.
+   *
+   * @param from   The first chunk.
+   * @param to     The chunk after the last one.
+   * @param action The work of a chunk.
+   */
+  ChunkTask(int from, int to, Action action) {
+    this.from = from;
+    this.to = to;
+    this.action = action;
+  }
+
+  @Override
+  protected void compute() {
+    if (this.to - this.from <= 1) {
+      if (this.to > this.from) {
+        this.action.apply(this.from);
+      }
+      return;
+    }
+    int middle = (this.from + this.to) >>> 1;
+    invokeAll(new ChunkTask(this.from, middle, this.action),
+            new ChunkTask(middle, this.to, this.action));
+  }
+
+  /**
+   * This is the work done on one chunk.
+   */
+  @FunctionalInterface
+  interface Action {
+    void apply(int chunk);
+  }
+}
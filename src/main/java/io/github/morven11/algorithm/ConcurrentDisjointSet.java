@@ -0,0 +1,144 @@
+package io.github.morven11.algorithm;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * This is ConcurrentDisjointSet class, a lock-free union-find of the ids
+ * [0, size) that many threads can use at the same time. A root is linked
+ * with a single compare and set, under the root with the higher random
+ * priority, and find splits the path it walks with compare and set too,
+ * so no thread ever waits for another one.
+ */
+public class ConcurrentDisjointSet {
+
+  private final AtomicIntegerArray parent;
+  private final AtomicInteger numSets;
+  private final int seed;
+
+  /**
+   * This is the constructor of the ConcurrentDisjointSet class with a random seed.
+   * Every id starts in its own set.
+   *
+   * @param size The number of ids.
+   */
+  public ConcurrentDisjointSet(int size) {
+    this(size, ThreadLocalRandom.current().nextInt());
+  }
+
+  /**
+   * This is the constructor of the ConcurrentDisjointSet class.
+   * Every id starts in its own set.
+   *
+   * @param size The number of ids.
+   * @param seed The seed of the priorities used to link the roots.
+   */
+  public ConcurrentDisjointSet(int size, int seed) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative: " + size);
+    }
+    this.parent = new AtomicIntegerArray(size);
+    this.numSets = new AtomicInteger(size);
+    this.seed = seed;
+    for (int id = 0; id < size; id++) {
+      this.parent.set(id, id);
+    }
+  }
+
+  /**
+   * This method gives the number of ids.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return this.parent.length();
+  }
+
+  /**
+   * This method gives the number of disjoint sets.
+   *
+   * @return The number of sets.
+   */
+  public int getNumSets() {
+    return this.numSets.get();
+  }
+
+  /**
+   * This method gives the representative of the set of an id,
+   * the root may change as soon as another thread joins the set.
+   *
+   * @param id The id to search.
+   * @return The root of the set.
+   */
+  public int find(int id) {
+    int current = this.parent.get(id);
+    while (current != id) {
+      int next = this.parent.get(current);
+      if (next != current) {
+        this.parent.compareAndSet(id, current, next);
+      }
+      id = current;
+      current = next;
+    }
+    return id;
+  }
+
+  /**
+   * This method join the sets of two ids.
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return True if this call joined the sets and False when they were already the same.
+   */
+  public boolean union(int first, int second) {
+    while (true) {
+      int rootFirst = find(first);
+      int rootSecond = find(second);
+      if (rootFirst == rootSecond) {
+        return false;
+      }
+      if (before(rootSecond, rootFirst)) {
+        int swap = rootFirst;
+        rootFirst = rootSecond;
+        rootSecond = swap;
+      }
+      if (this.parent.compareAndSet(rootFirst, rootFirst, rootSecond)) {
+        this.numSets.decrementAndGet();
+        return true;
+      }
+    }
+  }
+
+  /**
+   * This method verify if two ids are in the same set.
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return True if they are connected and False when not.
+   */
+  public boolean connected(int first, int second) {
+    while (true) {
+      int rootFirst = find(first);
+      int rootSecond = find(second);
+      if (rootFirst == rootSecond) {
+        return true;
+      }
+      if (this.parent.get(rootFirst) == rootFirst) {
+        return false;
+      }
+    }
+  }
+
+  private boolean before(int first, int second) {
+    int byPriority = Integer.compare(priority(first), priority(second));
+    return byPriority != 0 ? byPriority < 0 : first < second;
+  }
+
+  private int priority(int id) {
+    int hash = (id ^ this.seed) * 0x9E3779B9;
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    return hash ^ (hash >>> 13);
+  }
+}
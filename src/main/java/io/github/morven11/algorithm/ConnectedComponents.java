@@ -0,0 +1,62 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.EdgeList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is ConnectedComponents class, it labels the connected components
+ * of a graph in parallel. Every chunk of edges is joined into one shared
+ * ConcurrentDisjointSet and the roots are then numbered.
+ */
+final class ConnectedComponents {
+
+  private static final int CHUNK_SIZE = 1 << 12;
+
+  private ConnectedComponents() {
+  }
+
+  /**
+   * This method gives the component of every node, the components are
+   * numbered from 0 in the order of their first node.
+   *
+   * @param edges    The edges of the graph as node ids.
+   * @param numNodes The number of node ids.
+   * @param pool     The pool used by the passes.
+   * @return The component of every node.
+   */
+  static int[] label(EdgeList edges, int numNodes, ForkJoinPool pool) {
+    ConcurrentDisjointSet subsets = new ConcurrentDisjointSet(numNodes);
+    pool.invoke(new ChunkTask(0, chunks(edges.size()), chunk -> {
+      for (int i = chunk * CHUNK_SIZE; i < end(chunk, edges.size()); i++) {
+        subsets.union(edges.getSource(i), edges.getDestination(i));
+      }
+    }));
+    int[] roots = new int[numNodes];
+    pool.invoke(new ChunkTask(0, chunks(numNodes), chunk -> {
+      for (int node = chunk * CHUNK_SIZE; node < end(chunk, numNodes); node++) {
+        roots[node] = subsets.find(node);
+      }
+    }));
+    int[] numbers = new int[numNodes];
+    Arrays.fill(numbers, -1);
+    int[] components = new int[numNodes];
+    int numComponents = 0;
+    for (int node = 0; node < numNodes; node++) {
+      int root = roots[node];
+      if (numbers[root] < 0) {
+        numbers[root] = numComponents++;
+      }
+      components[node] = numbers[root];
+    }
+    return components;
+  }
+
+  private static int chunks(int size) {
+    return (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+  }
+
+  private static int end(int chunk, int size) {
+    return Math.min(size, (chunk + 1) * CHUNK_SIZE);
+  }
+}
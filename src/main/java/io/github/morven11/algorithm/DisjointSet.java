@@ -0,0 +1,113 @@
+package io.github.morven11.algorithm;
+
+/**
+ * This is DisjointSet class, a union-find of the ids [0, size)
+ * backed by primitive arrays, it uses path halving and union by rank.
+ */
+public class DisjointSet {
+
+  private final int[] parent;
+  private final byte[] rank;
+  private int numSets;
+
+  /**
+   * This is the constructor of the DisjointSet class.
+   * Every id starts in its own set.
+   *
+   * @param size The number of ids.
+   */
+  public DisjointSet(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative: " + size);
+    }
+    this.parent = new int[size];
+    this.rank = new byte[size];
+    this.numSets = size;
+    for (int id = 0; id < size; id++) {
+      this.parent[id] = id;
+    }
+  }
+
+  /**
+   * This method gives the number of ids.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return this.parent.length;
+  }
+
+  /**
+   * This method gives the number of disjoint sets.
+   *
+   * @return The number of sets.
+   */
+  public int getNumSets() {
+    return this.numSets;
+  }
+
+  /**
+   * This method gives the representative of the set of an id.
+   *
+   * @param id The id to search.
+   * @return The root of the set.
+   */
+  public int find(int id) {
+    while (this.parent[id] != id) {
+      this.parent[id] = this.parent[this.parent[id]];
+      id = this.parent[id];
+    }
+    return id;
+  }
+
+  /**
+   * This method gives the representative of the set of an id without
+   * compressing the path, so it can be called from many threads while
+   * no union is running.
+   *
+   * @param id The id to search.
+   * @return The root of the set.
+   */
+  int peek(int id) {
+    while (this.parent[id] != id) {
+      id = this.parent[id];
+    }
+    return id;
+  }
+
+  /**
+   * This method join the sets of two ids.
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return True if the sets were joined and False when they were already the same.
+   */
+  public boolean union(int first, int second) {
+    int rootFirst = find(first);
+    int rootSecond = find(second);
+    if (rootFirst == rootSecond) {
+      return false;
+    }
+    if (this.rank[rootFirst] < this.rank[rootSecond]) {
+      this.parent[rootFirst] = rootSecond;
+    } else if (this.rank[rootFirst] > this.rank[rootSecond]) {
+      this.parent[rootSecond] = rootFirst;
+    } else {
+      this.parent[rootSecond] = rootFirst;
+      this.rank[rootFirst]++;
+    }
+    this.numSets--;
+    return true;
+  }
+
+  /**
+   * This method verify if two ids are in the same set.
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return True if they are connected and False when not.
+   */
+  public boolean connected(int first, int second) {
+    return find(first) == find(second);
+  }
+}
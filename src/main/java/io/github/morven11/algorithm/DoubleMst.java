@@ -0,0 +1,82 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.DoubleEdgeList;
+
+/**
+ * This is DoubleMst class, a minimum spanning forest of edges with
+ * fractional weights given as node ids, so latencies do not have to be
+ * rounded to ints. The cost is a compensated sum that keeps the low
+ * bits a plain sum of many small and large weights would lose.
+ * The edges are used as if they were undirected.
+ */
+public class DoubleMst {
+
+  private final int numNodes;
+  private final DoubleEdgeList tree;
+  private final double minimumCost;
+
+  /**
+   * This is the constructor of the DoubleMst class, the given list is not changed.
+   *
+   * @param edges    The edges of the graph.
+   * @param numNodes The number of node ids, every id of the edges is below it.
+   */
+  public DoubleMst(DoubleEdgeList edges, int numNodes) {
+    if (numNodes < 0) {
+      throw new IllegalArgumentException("numNodes must not be negative: " + numNodes);
+    }
+    this.numNodes = numNodes;
+    DoubleEdgeList sorted = new DoubleEdgeList(edges.size());
+    sorted.addAll(edges);
+    sorted.sortByWeight();
+    this.tree = Kruskal.spanningForest(sorted, numNodes);
+    this.minimumCost = sum(this.tree);
+  }
+
+  private static double sum(DoubleEdgeList edges) {
+    // Neumaier's variant of the Kahan sum, it also keeps the error
+    // when the next weight is bigger than the running sum
+    double sum = 0.0;
+    double compensation = 0.0;
+    for (int i = 0; i < edges.size(); i++) {
+      double weight = edges.getWeight(i);
+      double next = sum + weight;
+      if (Math.abs(sum) >= Math.abs(weight)) {
+        compensation += (sum - next) + weight;
+      } else {
+        compensation += (weight - next) + sum;
+      }
+      sum = next;
+    }
+    return sum + compensation;
+  }
+
+  /**
+   * This method gives the cost of the forest.
+   *
+   * @return The minimum cost.
+   */
+  public double getMinimumCost() {
+    return this.minimumCost;
+  }
+
+  /**
+   * This method gives a copy of the edges of the forest.
+   *
+   * @return The edges of the forest.
+   */
+  public DoubleEdgeList getTreeEdges() {
+    DoubleEdgeList copy = new DoubleEdgeList(this.tree.size());
+    copy.addAll(this.tree);
+    return copy;
+  }
+
+  /**
+   * This method verify if the forest is a single spanning tree.
+   *
+   * @return True if the graph is connected and False when not.
+   */
+  public boolean isSpanningTree() {
+    return this.numNodes > 0 && this.tree.size() == this.numNodes - 1;
+  }
+}
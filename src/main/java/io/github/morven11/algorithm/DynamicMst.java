@@ -0,0 +1,332 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.Edge;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.GraphListener;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is DynamicMst class T extends comparable T, it listens to a Graph and
+ * keeps its minimum spanning forest up to date after every change.
+ * An added or cheaper edge replaces the heaviest edge of the cycle it closes,
+ * a removed or heavier tree edge is replaced by the cheapest edge that joins
+ * the two trees again. Each change costs O(V) and a lost tree edge O(E),
+ * a cheaper tree edge or a heavier non-tree edge only changes its weight.
+ *
+ * @param <T> T is the Generic Parameter.
+ */
+public class DynamicMst<T extends Comparable<T>> implements GraphListener<T> {
+
+  private final Graph<T> graph;
+  private final Map<Node<T>, Map<Node<T>, Integer>> forest;
+  private final Map<Link<T>, Integer> nonTreeLinks;
+  private int numTreeEdges;
+  private long minimumCost;
+
+  /**
+   * This is the constructor of the DynamicMst class, it computes the
+   * forest once and then listens to the changes of the graph.
+   *
+   * @param graph The graph to follow.
+   */
+  public DynamicMst(Graph<T> graph) {
+    this.graph = graph;
+    this.forest = new HashMap<>();
+    this.nonTreeLinks = new HashMap<>();
+    this.numTreeEdges = 0;
+    this.minimumCost = 0;
+    CsrGraph<T> csr = new CsrGraph<>(graph);
+    EdgeList edges = csr.toEdgeList();
+    edges.sortByWeight();
+    DisjointSet subsets = new DisjointSet(csr.getNumNodes());
+    for (int i = 0; i < edges.size(); i++) {
+      Node<T> source = csr.getNode(edges.getSource(i));
+      Node<T> destination = csr.getNode(edges.getDestination(i));
+      if (subsets.union(edges.getSource(i), edges.getDestination(i))) {
+        addTreeEdge(source, destination, edges.getWeight(i));
+      } else {
+        addNonTreeLink(new Link<>(source, destination, edges.getWeight(i)));
+      }
+    }
+    graph.addListener(this);
+  }
+
+  /**
+   * This method stops following the changes of the graph.
+   */
+  public void detach() {
+    this.graph.removeListener(this);
+  }
+
+  /**
+   * This method gives the cost of the current spanning forest.
+   *
+   * @return The minimum cost.
+   * @throws ArithmeticException when the cost does not fit in an int.
+   */
+  public Integer getMinimumCost() {
+    return Math.toIntExact(this.minimumCost);
+  }
+
+  /**
+   * This method gives the cost of the current spanning forest summed in a long.
+   *
+   * @return The minimum cost.
+   */
+  public long getMinimumCostAsLong() {
+    return this.minimumCost;
+  }
+
+  /**
+   * This method verify if the forest is a single tree
+   * that spans every node of the graph.
+   *
+   * @return True if it is a spanning tree and False when not.
+   */
+  public boolean isSpanningTree() {
+    return this.graph.getNumNodes() > 0 && this.numTreeEdges == this.graph.getNumNodes() - 1;
+  }
+
+  /**
+   * This method gives a copy of the current spanning forest.
+   *
+   * @return The forest as an UndirectedGraph.
+   */
+  public Graph<T> getGraph() {
+    Graph<T> copy = new UndirectedGraph<>();
+    for (Node<T> node : this.graph.getAllNodes()) {
+      copy.addNode(node);
+    }
+    for (Map.Entry<Node<T>, Map<Node<T>, Integer>> entry : this.forest.entrySet()) {
+      for (Map.Entry<Node<T>, Integer> neighbour : entry.getValue().entrySet()) {
+        if (entry.getKey().compareTo(neighbour.getKey()) < 0) {
+          copy.addEdge(neighbour.getValue(), entry.getKey(), neighbour.getKey());
+        }
+      }
+    }
+    return copy;
+  }
+
+  @Override
+  public void edgeAdded(Edge<T> edge) {
+    insert(copyOf(edge.getSource()), copyOf(edge.getDestination()), edge.getWeight());
+  }
+
+  @Override
+  public void edgeRemoved(Edge<T> edge) {
+    delete(copyOf(edge.getSource()), copyOf(edge.getDestination()), edge.getWeight());
+  }
+
+  @Override
+  public void edgeUpdated(Edge<T> edge, int oldWeight) {
+    Node<T> source = copyOf(edge.getSource());
+    Node<T> destination = copyOf(edge.getDestination());
+    int weight = edge.getWeight();
+    if (removeNonTreeLink(new Link<>(source, destination, oldWeight))) {
+      // a heavier edge that closed a cycle still does
+      if (weight >= oldWeight) {
+        addNonTreeLink(new Link<>(source, destination, weight));
+      } else {
+        insert(source, destination, weight);
+      }
+      return;
+    }
+    if (weight <= oldWeight && isTreeEdge(source, destination, oldWeight)) {
+      // a cheaper tree edge is still the lightest across its cut
+      this.forest.get(source).put(destination, weight);
+      this.forest.get(destination).put(source, weight);
+      this.minimumCost += weight - oldWeight;
+      return;
+    }
+    delete(source, destination, oldWeight);
+    insert(source, destination, weight);
+  }
+
+  @Override
+  public void nodeRemoved(Node<T> node) {
+    this.forest.remove(node);
+  }
+
+  @Override
+  public void nodeUpdated(Node<T> node, T oldElement) {
+    Node<T> oldNode = new Node<>(oldElement);
+    Node<T> newNode = copyOf(node);
+    Map<Node<T>, Integer> neighbours = this.forest.remove(oldNode);
+    if (neighbours != null) {
+      for (Map.Entry<Node<T>, Integer> neighbour : neighbours.entrySet()) {
+        Map<Node<T>, Integer> back = this.forest.get(neighbour.getKey());
+        back.remove(oldNode);
+        back.put(newNode, neighbour.getValue());
+      }
+      this.forest.put(newNode, neighbours);
+    }
+    Map<Link<T>, Integer> renamed = new HashMap<>();
+    Iterator<Map.Entry<Link<T>, Integer>> links = this.nonTreeLinks.entrySet().iterator();
+    while (links.hasNext()) {
+      Map.Entry<Link<T>, Integer> entry = links.next();
+      Link<T> link = entry.getKey();
+      if (link.source.equals(oldNode) || link.destination.equals(oldNode)) {
+        links.remove();
+        Node<T> source = link.source.equals(oldNode) ? newNode : link.source;
+        Node<T> destination = link.destination.equals(oldNode) ? newNode : link.destination;
+        renamed.put(new Link<>(source, destination, link.weight), entry.getValue());
+      }
+    }
+    this.nonTreeLinks.putAll(renamed);
+  }
+
+  private static <T extends Comparable<T>> Node<T> copyOf(Node<T> node) {
+    // the Graph renames its nodes in place, a key must keep its element
+    return new Node<>(node.getElement());
+  }
+
+  private void insert(Node<T> source, Node<T> destination, int weight) {
+    if (source.equals(destination)) {
+      addNonTreeLink(new Link<>(source, destination, weight));
+      return;
+    }
+    Map<Node<T>, Node<T>> parents = searchTree(source, destination);
+    if (!parents.containsKey(destination)) {
+      addTreeEdge(source, destination, weight);
+      return;
+    }
+    Node<T> heaviestFrom = null;
+    Node<T> heaviestTo = null;
+    int heaviest = Integer.MIN_VALUE;
+    for (Node<T> node = destination; !node.equals(source); node = parents.get(node)) {
+      Node<T> parent = parents.get(node);
+      int pathWeight = this.forest.get(node).get(parent);
+      if (heaviestFrom == null || pathWeight > heaviest) {
+        heaviestFrom = parent;
+        heaviestTo = node;
+        heaviest = pathWeight;
+      }
+    }
+    if (weight < heaviest) {
+      removeTreeEdge(heaviestFrom, heaviestTo, heaviest);
+      addNonTreeLink(new Link<>(heaviestFrom, heaviestTo, heaviest));
+      addTreeEdge(source, destination, weight);
+    } else {
+      addNonTreeLink(new Link<>(source, destination, weight));
+    }
+  }
+
+  private void delete(Node<T> source, Node<T> destination, int weight) {
+    if (removeNonTreeLink(new Link<>(source, destination, weight))
+            || !isTreeEdge(source, destination, weight)) {
+      return;
+    }
+    removeTreeEdge(source, destination, weight);
+    Map<Node<T>, Node<T>> side = searchTree(source, null);
+    Link<T> replacement = null;
+    for (Link<T> candidate : this.nonTreeLinks.keySet()) {
+      boolean crosses =
+              side.containsKey(candidate.source) != side.containsKey(candidate.destination);
+      if (crosses && (replacement == null || candidate.weight < replacement.weight)) {
+        replacement = candidate;
+      }
+    }
+    if (replacement != null) {
+      removeNonTreeLink(replacement);
+      addTreeEdge(replacement.source, replacement.destination, replacement.weight);
+    }
+  }
+
+  private void addNonTreeLink(Link<T> link) {
+    this.nonTreeLinks.merge(link, 1, Integer::sum);
+  }
+
+  private boolean removeNonTreeLink(Link<T> link) {
+    Integer count = this.nonTreeLinks.get(link);
+    if (count == null) {
+      return false;
+    }
+    if (count == 1) {
+      this.nonTreeLinks.remove(link);
+    } else {
+      this.nonTreeLinks.put(link, count - 1);
+    }
+    return true;
+  }
+
+  private boolean isTreeEdge(Node<T> source, Node<T> destination, int weight) {
+    Map<Node<T>, Integer> neighbours = this.forest.get(source);
+    Integer treeWeight = neighbours == null ? null : neighbours.get(destination);
+    return treeWeight != null && treeWeight == weight;
+  }
+
+  private Map<Node<T>, Node<T>> searchTree(Node<T> start, Node<T> target) {
+    Map<Node<T>, Node<T>> parents = new HashMap<>();
+    ArrayDeque<Node<T>> queue = new ArrayDeque<>();
+    parents.put(start, start);
+    queue.add(start);
+    while (!queue.isEmpty()) {
+      Node<T> node = queue.poll();
+      if (node.equals(target)) {
+        break;
+      }
+      for (Node<T> neighbour : this.forest.getOrDefault(node, Map.of()).keySet()) {
+        if (parents.putIfAbsent(neighbour, node) == null) {
+          queue.add(neighbour);
+        }
+      }
+    }
+    return parents;
+  }
+
+  private void addTreeEdge(Node<T> source, Node<T> destination, int weight) {
+    this.forest.computeIfAbsent(source, key -> new HashMap<>()).put(destination, weight);
+    this.forest.computeIfAbsent(destination, key -> new HashMap<>()).put(source, weight);
+    this.numTreeEdges++;
+    this.minimumCost += weight;
+  }
+
+  private void removeTreeEdge(Node<T> source, Node<T> destination, int weight) {
+    this.forest.get(source).remove(destination);
+    this.forest.get(destination).remove(source);
+    this.numTreeEdges--;
+    this.minimumCost -= weight;
+  }
+
+  @Override
+  public String toString() {
+    return this.getGraph().toString()
+            + "Minimum Cost: " + this.getMinimumCostAsLong();
+  }
+
+  private static final class Link<T extends Comparable<T>> {
+
+    private final Node<T> source;
+    private final Node<T> destination;
+    private final int weight;
+
+    private Link(Node<T> source, Node<T> destination, int weight) {
+      boolean ordered = source.compareTo(destination) <= 0;
+      this.source = ordered ? source : destination;
+      this.destination = ordered ? destination : source;
+      this.weight = weight;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (!(object instanceof Link<?> other)) {
+        return false;
+      }
+      return this.weight == other.weight && this.source.equals(other.source)
+              && this.destination.equals(other.destination);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.source, this.destination, this.weight);
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is FilterKruskal class, a Kruskal that splits the edges around a
+ * pivot weight, solves the light half first and drops the heavy edges that
+ * already close a cycle before sorting them. The partition and filter steps
+ * run in parallel on a ForkJoinPool, the unions stay sequential.
+ */
+public class FilterKruskal implements MstAlgorithm {
+
+  private static final int SEQUENTIAL_SIZE = 1 << 13;
+  private static final int CHUNK_SIZE = 1 << 12;
+  private static final int SAMPLE_SIZE = 63;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * This is the constructor of the FilterKruskal class,
+   * it runs on the common pool.
+   */
+  public FilterKruskal() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * This is the constructor of the FilterKruskal class.
+   *
+   * @param pool The pool used to partition and filter the edges.
+   */
+  public FilterKruskal(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("pool must not be null");
+    }
+    this.pool = pool;
+  }
+
+  @Override
+  public EdgeList compute(CsrGraph<?> graph) {
+    EdgeList edges = graph.toEdgeList();
+    long[] keys = new long[edges.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = ((long) edges.getWeight(i) << 32) | i;
+    }
+    Run run = new Run(edges, graph.getNumNodes(), keys);
+    run.filterKruskal(0, keys.length);
+    return run.tree;
+  }
+
+  private final class Run {
+
+    private final EdgeList edges;
+    private final DisjointSet subsets;
+    private final EdgeList tree;
+    private final int numNodes;
+    private final long[] keys;
+    private final long[] buffer;
+
+    private Run(EdgeList edges, int numNodes, long[] keys) {
+      this.edges = edges;
+      this.subsets = new DisjointSet(numNodes);
+      this.tree = new EdgeList(Math.max(0, numNodes - 1));
+      this.numNodes = numNodes;
+      this.keys = keys;
+      this.buffer = new long[keys.length];
+    }
+
+    private boolean isComplete() {
+      return this.tree.size() >= this.numNodes - 1;
+    }
+
+    private void filterKruskal(int from, int to) {
+      if (isComplete() || from >= to) {
+        return;
+      }
+      if (to - from <= SEQUENTIAL_SIZE) {
+        kruskal(from, to);
+        return;
+      }
+      long pivot = pivot(from, to);
+      int middle = partition(from, to, pivot);
+      if (middle == to) {
+        kruskal(from, to);
+        return;
+      }
+      filterKruskal(from, middle);
+      int end = filter(middle, to);
+      filterKruskal(middle, end);
+    }
+
+    private void kruskal(int from, int to) {
+      Arrays.sort(this.keys, from, to);
+      for (int i = from; i < to && !isComplete(); i++) {
+        int index = (int) this.keys[i];
+        int source = this.edges.getSource(index);
+        int destination = this.edges.getDestination(index);
+        if (this.subsets.union(source, destination)) {
+          this.tree.add(this.edges.getWeight(index), source, destination);
+        }
+      }
+    }
+
+    private long pivot(int from, int to) {
+      long[] sample = new long[SAMPLE_SIZE];
+      long step = (long) (to - from) / SAMPLE_SIZE;
+      for (int i = 0; i < SAMPLE_SIZE; i++) {
+        sample[i] = this.keys[(int) (from + i * step)] >> 32;
+      }
+      Arrays.sort(sample);
+      return sample[SAMPLE_SIZE / 2];
+    }
+
+    private int partition(int from, int to, long pivot) {
+      return scatter(from, to, key -> (key >> 32) <= pivot, true);
+    }
+
+    private int filter(int from, int to) {
+      return scatter(from, to, key -> {
+        int index = (int) key;
+        return this.subsets.peek(this.edges.getSource(index))
+                != this.subsets.peek(this.edges.getDestination(index));
+      }, false);
+    }
+
+    private int scatter(int from, int to, KeyPredicate predicate, boolean keepRejected) {
+      int numChunks = (to - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      int[] accepted = new int[numChunks];
+      pool.invoke(new ChunkTask(0, numChunks, chunk -> {
+        int count = 0;
+        for (int i = chunkStart(from, chunk); i < chunkEnd(from, to, chunk); i++) {
+          if (predicate.test(this.keys[i])) {
+            count++;
+          }
+        }
+        accepted[chunk] = count;
+      }));
+      int[] acceptedOffsets = new int[numChunks];
+      int[] rejectedOffsets = new int[numChunks];
+      int totalAccepted = 0;
+      for (int chunk = 0; chunk < numChunks; chunk++) {
+        acceptedOffsets[chunk] = totalAccepted;
+        totalAccepted += accepted[chunk];
+      }
+      int totalRejected = 0;
+      for (int chunk = 0; chunk < numChunks; chunk++) {
+        rejectedOffsets[chunk] = totalAccepted + totalRejected;
+        totalRejected += chunkEnd(from, to, chunk) - chunkStart(from, chunk) - accepted[chunk];
+      }
+      pool.invoke(new ChunkTask(0, numChunks, chunk -> {
+        int acceptedTarget = from + acceptedOffsets[chunk];
+        int rejectedTarget = from + rejectedOffsets[chunk];
+        for (int i = chunkStart(from, chunk); i < chunkEnd(from, to, chunk); i++) {
+          long key = this.keys[i];
+          if (predicate.test(key)) {
+            this.buffer[acceptedTarget++] = key;
+          } else if (keepRejected) {
+            this.buffer[rejectedTarget++] = key;
+          }
+        }
+      }));
+      int length = keepRejected ? to - from : totalAccepted;
+      System.arraycopy(this.buffer, from, this.keys, from, length);
+      return from + totalAccepted;
+    }
+
+    private int chunkStart(int from, int chunk) {
+      return from + chunk * CHUNK_SIZE;
+    }
+
+    private int chunkEnd(int from, int to, int chunk) {
+      return Math.min(to, from + (chunk + 1) * CHUNK_SIZE);
+    }
+  }
+
+  @FunctionalInterface
+  private interface KeyPredicate {
+    boolean test(long key);
+  }
+}
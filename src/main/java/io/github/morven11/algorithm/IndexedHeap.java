@@ -0,0 +1,130 @@
+package io.github.morven11.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * This is IndexedHeap class, a d-ary min heap of the ids [0, size)
+ * ordered by a long key, it supports decrease key in O(log_d n).
+ */
+final class IndexedHeap {
+
+  private final int arity;
+  private final int[] heap;
+  private final int[] positions;
+  private final long[] keys;
+  private int size;
+
+  /**
+   * This is the constructor of the IndexedHeap class.
+   *
+   * @param capacity The number of ids.
+   * @param arity    The number of children of every entry.
+   */
+  IndexedHeap(int capacity, int arity) {
+    if (arity < 2) {
+      throw new IllegalArgumentException("arity must be at least 2: " + arity);
+    }
+    this.arity = arity;
+    this.heap = new int[capacity];
+    this.positions = new int[capacity];
+    this.keys = new long[capacity];
+    this.size = 0;
+    Arrays.fill(this.positions, -1);
+  }
+
+  boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  boolean contains(int id) {
+    return this.positions[id] >= 0;
+  }
+
+  long getKey(int id) {
+    return this.keys[id];
+  }
+
+  /**
+   * This method insert an id or lower its key when the new key is smaller.
+   *
+   * @param id  The id.
+   * @param key The key.
+   * @return True if the heap changed and False when not.
+   */
+  boolean offer(int id, long key) {
+    if (!contains(id)) {
+      this.keys[id] = key;
+      this.positions[id] = this.size;
+      this.heap[this.size++] = id;
+      siftUp(this.size - 1);
+      return true;
+    }
+    if (key >= this.keys[id]) {
+      return false;
+    }
+    this.keys[id] = key;
+    siftUp(this.positions[id]);
+    return true;
+  }
+
+  /**
+   * This method remove the id with the smallest key.
+   *
+   * @return The id.
+   */
+  int poll() {
+    int top = this.heap[0];
+    this.positions[top] = -1;
+    this.size--;
+    if (this.size > 0) {
+      int last = this.heap[this.size];
+      this.heap[0] = last;
+      this.positions[last] = 0;
+      siftDown(0);
+    }
+    return top;
+  }
+
+  private void siftUp(int index) {
+    int id = this.heap[index];
+    long key = this.keys[id];
+    while (index > 0) {
+      int parentIndex = (index - 1) / this.arity;
+      int parent = this.heap[parentIndex];
+      if (this.keys[parent] <= key) {
+        break;
+      }
+      this.heap[index] = parent;
+      this.positions[parent] = index;
+      index = parentIndex;
+    }
+    this.heap[index] = id;
+    this.positions[id] = index;
+  }
+
+  private void siftDown(int index) {
+    int id = this.heap[index];
+    long key = this.keys[id];
+    while (true) {
+      int first = index * this.arity + 1;
+      if (first >= this.size) {
+        break;
+      }
+      int last = Math.min(first + this.arity, this.size);
+      int best = first;
+      for (int child = first + 1; child < last; child++) {
+        if (this.keys[this.heap[child]] < this.keys[this.heap[best]]) {
+          best = child;
+        }
+      }
+      if (this.keys[this.heap[best]] >= key) {
+        break;
+      }
+      this.heap[index] = this.heap[best];
+      this.positions[this.heap[index]] = index;
+      index = best;
+    }
+    this.heap[index] = id;
+    this.positions[id] = index;
+  }
+}
@@ -0,0 +1,95 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.BinaryGraphReader;
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.DoubleEdgeList;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.LongEdgeList;
+
+/**
+ * This is Kruskal class, the sequential engine: it sorts every edge
+ * by weight and joins them with a DisjointSet.
+ */
+public class Kruskal implements MstAlgorithm {
+
+  /**
+   * This is the constructor of the Kruskal class.
+   */
+  public Kruskal() {
+  }
+
+  @Override
+  public EdgeList compute(CsrGraph<?> graph) {
+    EdgeList edges = graph.toEdgeList();
+    edges.sortByWeight();
+    return spanningForest(edges, graph.getNumNodes());
+  }
+
+  /**
+   * This method gives the edges of a minimum spanning forest of a mapped
+   * binary graph file. The edges are copied from the file into an EdgeList
+   * and sorted there, no Graph is built.
+   *
+   * @param reader The open file.
+   * @return The chosen edges as node ids of the file.
+   */
+  public EdgeList compute(BinaryGraphReader<?> reader) {
+    EdgeList edges = reader.toEdgeList();
+    edges.sortByWeight();
+    return spanningForest(edges, reader.getNumNodes());
+  }
+
+  /**
+   * This method joins the edges of a list already sorted by weight.
+   *
+   * @param edges    The sorted edges.
+   * @param numNodes The number of node ids.
+   * @return The chosen edges.
+   */
+  static EdgeList spanningForest(EdgeList edges, int numNodes) {
+    DisjointSet subsets = new DisjointSet(numNodes);
+    EdgeList tree = new EdgeList(Math.max(0, numNodes - 1));
+    for (int i = 0; i < edges.size() && tree.size() < numNodes - 1; i++) {
+      if (subsets.union(edges.getSource(i), edges.getDestination(i))) {
+        tree.add(edges.getWeight(i), edges.getSource(i), edges.getDestination(i));
+      }
+    }
+    return tree;
+  }
+
+  /**
+   * This method joins the edges with long weights of a list already sorted by weight.
+   *
+   * @param edges    The sorted edges.
+   * @param numNodes The number of node ids.
+   * @return The chosen edges.
+   */
+  static LongEdgeList spanningForest(LongEdgeList edges, int numNodes) {
+    DisjointSet subsets = new DisjointSet(numNodes);
+    LongEdgeList tree = new LongEdgeList(Math.max(0, numNodes - 1));
+    for (int i = 0; i < edges.size() && tree.size() < numNodes - 1; i++) {
+      if (subsets.union(edges.getSource(i), edges.getDestination(i))) {
+        tree.add(edges.getWeight(i), edges.getSource(i), edges.getDestination(i));
+      }
+    }
+    return tree;
+  }
+
+  /**
+   * This method joins the edges with double weights of a list already sorted by weight.
+   *
+   * @param edges    The sorted edges.
+   * @param numNodes The number of node ids.
+   * @return The chosen edges.
+   */
+  static DoubleEdgeList spanningForest(DoubleEdgeList edges, int numNodes) {
+    DisjointSet subsets = new DisjointSet(numNodes);
+    DoubleEdgeList tree = new DoubleEdgeList(Math.max(0, numNodes - 1));
+    for (int i = 0; i < edges.size() && tree.size() < numNodes - 1; i++) {
+      if (subsets.union(edges.getSource(i), edges.getDestination(i))) {
+        tree.add(edges.getWeight(i), edges.getSource(i), edges.getDestination(i));
+      }
+    }
+    return tree;
+  }
+}
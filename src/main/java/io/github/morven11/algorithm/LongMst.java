@@ -0,0 +1,69 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.LongEdgeList;
+
+/**
+ * This is LongMst class, a minimum spanning forest of edges with 64 bit
+ * weights given as node ids. The weights stay unboxed from the input to
+ * the tree and the cost is summed in a long that reports an overflow
+ * instead of wrapping around.
+ * The edges are used as if they were undirected.
+ */
+public class LongMst {
+
+  private final int numNodes;
+  private final LongEdgeList tree;
+  private final long minimumCost;
+
+  /**
+   * This is the constructor of the LongMst class, the given list is not changed.
+   *
+   * @param edges    The edges of the graph.
+   * @param numNodes The number of node ids, every id of the edges is below it.
+   * @throws ArithmeticException when the cost does not fit in a long.
+   */
+  public LongMst(LongEdgeList edges, int numNodes) {
+    if (numNodes < 0) {
+      throw new IllegalArgumentException("numNodes must not be negative: " + numNodes);
+    }
+    this.numNodes = numNodes;
+    LongEdgeList sorted = new LongEdgeList(edges.size());
+    sorted.addAll(edges);
+    sorted.sortByWeight();
+    this.tree = Kruskal.spanningForest(sorted, numNodes);
+    long cost = 0;
+    for (int i = 0; i < this.tree.size(); i++) {
+      cost = Math.addExact(cost, this.tree.getWeight(i));
+    }
+    this.minimumCost = cost;
+  }
+
+  /**
+   * This method gives the cost of the forest.
+   *
+   * @return The minimum cost.
+   */
+  public long getMinimumCost() {
+    return this.minimumCost;
+  }
+
+  /**
+   * This method gives a copy of the edges of the forest.
+   *
+   * @return The edges of the forest.
+   */
+  public LongEdgeList getTreeEdges() {
+    LongEdgeList copy = new LongEdgeList(this.tree.size());
+    copy.addAll(this.tree);
+    return copy;
+  }
+
+  /**
+   * This method verify if the forest is a single spanning tree.
+   *
+   * @return True if the graph is connected and False when not.
+   */
+  public boolean isSpanningTree() {
+    return this.numNodes > 0 && this.tree.size() == this.numNodes - 1;
+  }
+}
@@ -0,0 +1,276 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.GraphBuilder;
+import io.github.morven11.graphs.Node;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This is MinimumSpanningForest class T extends comparable T, it gives
+ * one minimum spanning tree for every connected component of a graph
+ * where Mst gives nothing for a disconnected graph. The components are
+ * found in parallel and then every component runs its own Kruskal on
+ * the pool, stopping as soon as its tree is complete.
+ * A directed graph is used as if its edges were undirected.
+ *
+ * @param <T> T is the Generic Parameter.
+ */
+public class MinimumSpanningForest<T extends Comparable<T>> {
+
+  private final CsrGraph<T> graph;
+  private final int[] components;
+  private final int[] componentOffsets;
+  private final int[] componentNodes;
+  private final EdgeList[] trees;
+  private final long[] costs;
+  private final long minimumCost;
+
+  /**
+   * This is the constructor of the MinimumSpanningForest class,
+   * it runs on the common pool.
+   *
+   * @param graph The graph to convert into a minimum spanning forest.
+   */
+  public MinimumSpanningForest(Graph<T> graph) {
+    this(new CsrGraph<>(graph), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * This is the constructor of the MinimumSpanningForest class.
+   *
+   * @param graph The graph to convert into a minimum spanning forest.
+   * @param pool  The pool used by the components.
+   */
+  public MinimumSpanningForest(Graph<T> graph, ForkJoinPool pool) {
+    this(new CsrGraph<>(graph), pool);
+  }
+
+  /**
+   * This is the constructor of the MinimumSpanningForest class for a CsrGraph.
+   *
+   * @param graph The compressed graph to convert into a minimum spanning forest.
+   * @param pool  The pool used by the components.
+   */
+  public MinimumSpanningForest(CsrGraph<T> graph, ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("pool must not be null");
+    }
+    this.graph = graph;
+    int numNodes = graph.getNumNodes();
+    EdgeList edges = graph.toEdgeList();
+    this.components = ConnectedComponents.label(edges, numNodes, pool);
+    int numComponents = 0;
+    for (int component : this.components) {
+      numComponents = Math.max(numComponents, component + 1);
+    }
+    this.componentOffsets = new int[numComponents + 1];
+    this.componentNodes = new int[numNodes];
+    int[] localIds = new int[numNodes];
+    for (int node = 0; node < numNodes; node++) {
+      this.componentOffsets[this.components[node] + 1]++;
+    }
+    for (int component = 0; component < numComponents; component++) {
+      this.componentOffsets[component + 1] += this.componentOffsets[component];
+    }
+    int[] next = this.componentOffsets.clone();
+    for (int node = 0; node < numNodes; node++) {
+      int position = next[this.components[node]]++;
+      this.componentNodes[position] = node;
+      localIds[node] = position - this.componentOffsets[this.components[node]];
+    }
+    EdgeList[] componentEdges = new EdgeList[numComponents];
+    for (int i = 0; i < edges.size(); i++) {
+      int component = this.components[edges.getSource(i)];
+      if (componentEdges[component] == null) {
+        componentEdges[component] = new EdgeList(16);
+      }
+      componentEdges[component].add(edges.getWeight(i),
+              localIds[edges.getSource(i)], localIds[edges.getDestination(i)]);
+    }
+    this.trees = new EdgeList[numComponents];
+    this.costs = new long[numComponents];
+    pool.invoke(new ChunkTask(0, numComponents,
+            component -> solve(component, componentEdges[component])));
+    long cost = 0;
+    for (long componentCost : this.costs) {
+      cost += componentCost;
+    }
+    this.minimumCost = cost;
+  }
+
+  private void solve(int component, EdgeList edges) {
+    int offset = this.componentOffsets[component];
+    int numNodes = this.componentOffsets[component + 1] - offset;
+    EdgeList tree = new EdgeList(numNodes - 1);
+    if (edges != null) {
+      edges.sortByWeight();
+      EdgeList local = Kruskal.spanningForest(edges, numNodes);
+      for (int i = 0; i < local.size(); i++) {
+        tree.add(local.getWeight(i), this.componentNodes[offset + local.getSource(i)],
+                this.componentNodes[offset + local.getDestination(i)]);
+        this.costs[component] += local.getWeight(i);
+      }
+    }
+    this.trees[component] = tree;
+  }
+
+  /**
+   * This method gives the compressed graph the forest was built from,
+   * the ids of the tree edges are its node ids.
+   *
+   * @return The compressed graph.
+   */
+  CsrGraph<T> getCsrGraph() {
+    return this.graph;
+  }
+
+  /**
+   * This method gives the number of connected components of the graph.
+   *
+   * @return The number of components.
+   */
+  public int getNumComponents() {
+    return this.trees.length;
+  }
+
+  /**
+   * This method gives the component of a node.
+   *
+   * @param node The node to search.
+   * @return The component or -1 when the node is not in the graph.
+   */
+  public int getComponent(Node<T> node) {
+    int id = this.graph.indexOf(node);
+    return id < 0 ? -1 : this.components[id];
+  }
+
+  /**
+   * This method gives the number of nodes of a component.
+   *
+   * @param component The component.
+   * @return The number of nodes.
+   */
+  public int getComponentSize(int component) {
+    return this.componentOffsets[component + 1] - this.componentOffsets[component];
+  }
+
+  /**
+   * This method gives the cost of the whole forest.
+   *
+   * @return The minimum cost.
+   * @throws ArithmeticException when the cost does not fit in an int.
+   */
+  public Integer getMinimumCost() {
+    return Math.toIntExact(this.minimumCost);
+  }
+
+  /**
+   * This method gives the cost of the whole forest summed in a long.
+   *
+   * @return The minimum cost.
+   */
+  public long getMinimumCostAsLong() {
+    return this.minimumCost;
+  }
+
+  /**
+   * This method gives the cost of the tree of a component.
+   *
+   * @param component The component.
+   * @return The minimum cost of the component.
+   * @throws ArithmeticException when the cost does not fit in an int.
+   */
+  public Integer getMinimumCost(int component) {
+    return Math.toIntExact(this.costs[component]);
+  }
+
+  /**
+   * This method gives the cost of the tree of a component summed in a long.
+   *
+   * @param component The component.
+   * @return The minimum cost of the component.
+   */
+  public long getMinimumCostAsLong(int component) {
+    return this.costs[component];
+  }
+
+  /**
+   * This method verify if the forest is a single spanning tree.
+   *
+   * @return True if the graph is connected and False when not.
+   */
+  public boolean isSpanningTree() {
+    return this.trees.length == 1;
+  }
+
+  /**
+   * This method gives a copy of the edges of the tree of a component
+   * as node ids of the compressed graph.
+   *
+   * @param component The component.
+   * @return The edges of the tree.
+   */
+  public EdgeList getTreeEdges(int component) {
+    EdgeList copy = new EdgeList(this.trees[component].size());
+    copy.addAll(this.trees[component]);
+    return copy;
+  }
+
+  /**
+   * This method gives the edges of the tree of a component without
+   * a copy, the caller must not change them.
+   *
+   * @param component The component.
+   * @return The edges of the tree.
+   */
+  EdgeList getSharedTreeEdges(int component) {
+    return this.trees[component];
+  }
+
+  /**
+   * This method gives the tree of a component.
+   *
+   * @param component The component.
+   * @return The tree as an UndirectedGraph.
+   */
+  public Graph<T> getTree(int component) {
+    GraphBuilder<T> builder = new GraphBuilder<>(false);
+    for (int i = this.componentOffsets[component]; i < this.componentOffsets[component + 1]; i++) {
+      builder.addNode(this.graph.getNode(this.componentNodes[i]));
+    }
+    addTree(builder, component);
+    return builder.build();
+  }
+
+  /**
+   * This method gives the whole forest.
+   *
+   * @return The forest as an UndirectedGraph.
+   */
+  public Graph<T> getGraph() {
+    GraphBuilder<T> builder = new GraphBuilder<>(false);
+    for (int node = 0; node < this.graph.getNumNodes(); node++) {
+      builder.addNode(this.graph.getNode(node));
+    }
+    for (int component = 0; component < this.trees.length; component++) {
+      addTree(builder, component);
+    }
+    return builder.build();
+  }
+
+  private void addTree(GraphBuilder<T> builder, int component) {
+    EdgeList tree = this.trees[component];
+    for (int i = 0; i < tree.size(); i++) {
+      builder.addEdge(tree.getWeight(i), this.graph.getNode(tree.getSource(i)),
+              this.graph.getNode(tree.getDestination(i)));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getGraph().toString()
+            + "Minimum Cost: " + this.getMinimumCostAsLong();
+  }
+}
@@ -1,14 +1,12 @@
 package io.github.morven11.algorithm;
 
-import io.github.morven11.graphs.DirectedGraph;
-import io.github.morven11.graphs.Edge;
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
 import io.github.morven11.graphs.Graph;
 import io.github.morven11.graphs.Node;
 import io.github.morven11.graphs.UndirectedGraph;
-import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This is Kruskal class T extends comparable T.
@@ -18,116 +16,99 @@ import java.util.TreeSet;
 public class Mst<T extends Comparable<T>> {
 
   private final Graph<T> graph;
-  private Map<Node<T>, Subset<T>> subsets;
-  private Integer minimumCost;
+  private long minimumCost;
 
   /**
    * This is the Constructor of Kruskal class.
+   * A directed graph is used as if its edges were undirected.
    *
    * @param graph The graph to convert into a minimum Spanning Tree.
    */
   public Mst(Graph<T> graph) {
-    this.subsets = new TreeMap<>();
-    this.minimumCost = 0;
-    this.graph = kruskal(graph);
+    this(new CsrGraph<>(graph));
   }
 
   /**
-   * This class gives the cost of the Spanning Tree.
+   * This is the Constructor of Kruskal class for a CsrGraph,
+   * the edges are sorted and joined using only primitive arrays.
    *
-   * @return The minimum cost of the Spanning Tree.
+   * @param graph The compressed graph to convert into a minimum Spanning Tree.
    */
-  public Integer getMinimumCost() {
-    return minimumCost;
+  public Mst(CsrGraph<T> graph) {
+    this(graph, new Kruskal());
   }
 
   /**
-   * This method gives the graph of the MST.
+   * This is the Constructor of Kruskal class with a chosen engine,
+   * like FilterKruskal or Boruvka.
    *
-   * @return The Graph.
+   * @param graph     The graph to convert into a minimum Spanning Tree.
+   * @param algorithm The engine to use.
    */
-  public Graph<T> getGraph() {
-    return this.graph;
-  }
-
-  private Graph<T> cleanGraph(Graph<T> graph) {
-    Set<Edge<T>> visited = new TreeSet<>();
-    Graph<T> cleanGraph = new DirectedGraph<>();
-    for (Edge<T> edge : graph.getAllEdges()) {
-      if (visited.contains(edge)) {
-        continue;
-      }
-      Node<T> source = edge.getSource();
-      Node<T> destination = edge.getDestination();
-      Integer weight = edge.getWeight();
-      Edge<T> imageEdge = new Edge<>(weight, destination, source);
-      visited.add(edge);
-      visited.add(imageEdge);
-      cleanGraph.addEdge(weight, source, destination);
-    }
-    return cleanGraph;
+  public Mst(Graph<T> graph, MstAlgorithm algorithm) {
+    this(new CsrGraph<>(graph), algorithm);
   }
 
-  private Map<Node<T>, Subset<T>> fillSubset(Graph<T> graph) {
-    Map<Node<T>, Subset<T>> tmpSubsets = new TreeMap<>();
-    for (Node<T> node : graph.getAllNodes()) {
-      tmpSubsets.put(node, new Subset<>(node, 0));
-    }
-    return tmpSubsets;
+  /**
+   * This is the Constructor of Kruskal class for a CsrGraph with a chosen engine.
+   *
+   * @param graph     The compressed graph to convert into a minimum Spanning Tree.
+   * @param algorithm The engine to use.
+   */
+  public Mst(CsrGraph<T> graph, MstAlgorithm algorithm) {
+    this.minimumCost = 0;
+    this.graph = buildTree(graph, algorithm.compute(graph));
   }
 
-  private Node<T> find(Node<T> node) {
-    if (subsets.get(node).getParent() == node) {
-      return node;
-    }
-    return find(subsets.get(node).getParent());
+  /**
+   * This class gives the cost of the Spanning Tree.
+   *
+   * @return The minimum cost of the Spanning Tree.
+   * @throws ArithmeticException when the cost does not fit in an int,
+   *                             getMinimumCostAsLong gives it whole.
+   */
+  public Integer getMinimumCost() {
+    return Math.toIntExact(this.minimumCost);
   }
 
-  private void union(Node<T> source, Node<T> destination) {
-    Node<T> rootSource = find(source);
-    Node<T> rootDestination = find(destination);
-    if (subsets.get(rootSource).getRank() < subsets.get(rootDestination).getRank()) {
-      subsets.get(rootSource).setParent(rootDestination);
-    } else if (subsets.get(rootSource).getRank() > subsets.get(rootDestination).getRank()) {
-      subsets.get(rootDestination).setParent(rootSource);
-    } else {
-      subsets.get(rootDestination).setParent(rootSource);
-      subsets.get(rootSource).increaseRank();
-    }
+  /**
+   * This method gives the cost of the Spanning Tree summed in a long,
+   * it can not overflow for less than 2^32 edges.
+   *
+   * @return The minimum cost of the Spanning Tree.
+   */
+  public long getMinimumCostAsLong() {
+    return this.minimumCost;
   }
 
-  private Graph<T> convertToUndirectGraph(Graph<T> graphToConvert) {
-    Graph<T> undirectedGraph = new UndirectedGraph<>();
-    for (Edge<T> edge : graphToConvert.getAllEdges()) {
-      undirectedGraph.addEdge(edge.getWeight(), edge.getSource(), edge.getDestination());
-    }
-    return undirectedGraph;
+  /**
+   * This method gives the graph of the MST.
+   *
+   * @return The Graph or null when the graph is not connected,
+   *         MinimumSpanningForest gives a tree for every component.
+   */
+  public Graph<T> getGraph() {
+    return this.graph;
   }
 
-  private Graph<T> kruskal(Graph<T> graphToConvert) {
+  private Graph<T> buildTree(CsrGraph<T> graphToConvert, EdgeList tree) {
     Graph<T> mst = new UndirectedGraph<>();
-    graphToConvert = graphToConvert instanceof DirectedGraph<T>
-            ? convertToUndirectGraph(graphToConvert) : graphToConvert;
-    Graph<T> cleanGraph = cleanGraph(graphToConvert);
-    subsets = fillSubset(cleanGraph);
-    for (Edge<T> edge : cleanGraph.getAllEdges()) {
-      Node<T> source = find(edge.getSource());
-      Node<T> destination = find(edge.getDestination());
-      if (!source.equals(destination)) {
-        mst.addEdge(edge.getWeight(), edge.getSource(), edge.getDestination());
-        union(source, destination);
-        this.minimumCost += edge.getWeight();
-      }
-      if (mst.getNumEdges() == cleanGraph.getNumNodes() - 1) {
-        return mst;
-      }
+    List<Node<T>> nodes = new ArrayList<>(graphToConvert.getNumNodes());
+    for (int node = 0; node < graphToConvert.getNumNodes(); node++) {
+      nodes.add(graphToConvert.getNode(node));
+    }
+    for (int i = 0; i < tree.size(); i++) {
+      mst.addEdge(tree.getWeight(i), nodes.get(tree.getSource(i)),
+              nodes.get(tree.getDestination(i)));
+      this.minimumCost += tree.getWeight(i);
     }
-    return null;
+    int numNodes = graphToConvert.getNumNodes();
+    return numNodes > 0 && tree.size() == numNodes - 1 ? mst : null;
   }
 
   @Override
   public String toString() {
     return this.graph.toString()
-            + "Minimum Cost: " + this.getMinimumCost();
+            + "Minimum Cost: " + this.getMinimumCostAsLong();
   }
 }
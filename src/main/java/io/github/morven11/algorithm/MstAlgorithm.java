@@ -0,0 +1,20 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+
+/**
+ * This is MstAlgorithm interface, an engine that Mst can use
+ * to choose the edges of the minimum spanning tree.
+ */
+public interface MstAlgorithm {
+
+  /**
+   * This method gives the edges of a minimum spanning forest of a graph,
+   * a directed graph is used as if its edges were undirected.
+   *
+   * @param graph The compressed graph.
+   * @return The chosen edges as node ids of the graph.
+   */
+  EdgeList compute(CsrGraph<?> graph);
+}
@@ -0,0 +1,254 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import java.util.Arrays;
+
+/**
+ * This is MstQueryIndex class T extends comparable T, an index over a
+ * minimum spanning forest that answers path queries without walking the
+ * trees. Every tree is rooted and binary lifting keeps, for each node,
+ * its 2^k-th ancestor with the heaviest weight and the total weight of
+ * the path up to it, so a query climbs O(log V) steps. The heaviest
+ * edge of the tree path is also the minimax edge of any path of the
+ * graph between the two nodes.
+ *
+ * @param <T> T is the Generic Parameter.
+ */
+public class MstQueryIndex<T extends Comparable<T>> {
+
+  private final CsrGraph<T> graph;
+  private final int[] components;
+  private final int[] depths;
+  private final int[][] ancestors;
+  private final int[][] maxWeights;
+  private final long[][] costs;
+
+  /**
+   * This is the constructor of the MstQueryIndex class,
+   * the forest is computed on the common pool.
+   *
+   * @param graph The graph to index.
+   */
+  public MstQueryIndex(Graph<T> graph) {
+    this(new MinimumSpanningForest<>(graph));
+  }
+
+  /**
+   * This is the constructor of the MstQueryIndex class for a forest already computed.
+   *
+   * @param forest The minimum spanning forest to index.
+   */
+  public MstQueryIndex(MinimumSpanningForest<T> forest) {
+    this.graph = forest.getCsrGraph();
+    int numNodes = this.graph.getNumNodes();
+    int[] offsets = new int[numNodes + 1];
+    for (int component = 0; component < forest.getNumComponents(); component++) {
+      EdgeList tree = forest.getSharedTreeEdges(component);
+      for (int i = 0; i < tree.size(); i++) {
+        offsets[tree.getSource(i) + 1]++;
+        offsets[tree.getDestination(i) + 1]++;
+      }
+    }
+    for (int node = 0; node < numNodes; node++) {
+      offsets[node + 1] += offsets[node];
+    }
+    int[] targets = new int[offsets[numNodes]];
+    int[] weights = new int[offsets[numNodes]];
+    int[] next = offsets.clone();
+    for (int component = 0; component < forest.getNumComponents(); component++) {
+      EdgeList tree = forest.getSharedTreeEdges(component);
+      for (int i = 0; i < tree.size(); i++) {
+        int source = tree.getSource(i);
+        int destination = tree.getDestination(i);
+        targets[next[source]] = destination;
+        weights[next[source]++] = tree.getWeight(i);
+        targets[next[destination]] = source;
+        weights[next[destination]++] = tree.getWeight(i);
+      }
+    }
+    int levels = 1;
+    while ((1 << levels) < numNodes) {
+      levels++;
+    }
+    this.components = new int[numNodes];
+    this.depths = new int[numNodes];
+    this.ancestors = new int[levels][numNodes];
+    this.maxWeights = new int[levels][numNodes];
+    this.costs = new long[levels][numNodes];
+    root(offsets, targets, weights);
+    for (int level = 1; level < levels; level++) {
+      for (int node = 0; node < numNodes; node++) {
+        int middle = this.ancestors[level - 1][node];
+        this.ancestors[level][node] = this.ancestors[level - 1][middle];
+        this.maxWeights[level][node] = Math.max(this.maxWeights[level - 1][node],
+                this.maxWeights[level - 1][middle]);
+        this.costs[level][node] = this.costs[level - 1][node] + this.costs[level - 1][middle];
+      }
+    }
+  }
+
+  private void root(int[] offsets, int[] targets, int[] weights) {
+    int numNodes = this.components.length;
+    Arrays.fill(this.components, -1);
+    int[] queue = new int[numNodes];
+    int numComponents = 0;
+    for (int root = 0; root < numNodes; root++) {
+      if (this.components[root] >= 0) {
+        continue;
+      }
+      // a root is its own ancestor through an edge that weighs nothing
+      this.components[root] = numComponents;
+      this.ancestors[0][root] = root;
+      this.maxWeights[0][root] = Integer.MIN_VALUE;
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = root;
+      while (head < tail) {
+        int node = queue[head++];
+        for (int slot = offsets[node]; slot < offsets[node + 1]; slot++) {
+          int child = targets[slot];
+          if (this.components[child] < 0) {
+            this.components[child] = numComponents;
+            this.depths[child] = this.depths[node] + 1;
+            this.ancestors[0][child] = node;
+            this.maxWeights[0][child] = weights[slot];
+            this.costs[0][child] = weights[slot];
+            queue[tail++] = child;
+          }
+        }
+      }
+      numComponents++;
+    }
+  }
+
+  /**
+   * This method gives the id of a node, the queries by id skip the lookup.
+   *
+   * @param node The node to search.
+   * @return The id or -1 when the node is not in the graph.
+   */
+  public int getNodeId(Node<T> node) {
+    return this.graph.indexOf(node);
+  }
+
+  /**
+   * This method verify if two nodes are in the same tree of the forest.
+   *
+   * @param first  The first node.
+   * @param second The second node.
+   * @return True if they are connected and False when not or when a node is not in the graph.
+   */
+  public boolean connected(Node<T> first, Node<T> second) {
+    int firstId = getNodeId(first);
+    int secondId = getNodeId(second);
+    return firstId >= 0 && secondId >= 0 && connected(firstId, secondId);
+  }
+
+  /**
+   * This method verify if two node ids are in the same tree of the forest in O(1).
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return True if they are connected and False when not.
+   */
+  public boolean connected(int first, int second) {
+    return this.components[first] == this.components[second];
+  }
+
+  /**
+   * This method gives the heaviest weight on the tree path between two nodes,
+   * the smallest bottleneck any path of the graph between them can have.
+   *
+   * @param first  The first node.
+   * @param second The second node.
+   * @return The heaviest weight or Integer.MIN_VALUE when both are the same node.
+   * @throws IllegalArgumentException when they are not connected.
+   */
+  public int getMaxEdge(Node<T> first, Node<T> second) {
+    return getMaxEdge(idOf(first), idOf(second));
+  }
+
+  /**
+   * This method gives the heaviest weight on the tree path between two node ids.
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return The heaviest weight or Integer.MIN_VALUE when both are the same id.
+   * @throws IllegalArgumentException when they are not connected.
+   */
+  public int getMaxEdge(int first, int second) {
+    return (int) climb(first, second, false);
+  }
+
+  /**
+   * This method gives the total weight of the tree path between two nodes.
+   *
+   * @param first  The first node.
+   * @param second The second node.
+   * @return The weight of the path.
+   * @throws IllegalArgumentException when they are not connected.
+   */
+  public long getPathCost(Node<T> first, Node<T> second) {
+    return getPathCost(idOf(first), idOf(second));
+  }
+
+  /**
+   * This method gives the total weight of the tree path between two node ids.
+   *
+   * @param first  The first id.
+   * @param second The second id.
+   * @return The weight of the path.
+   * @throws IllegalArgumentException when they are not connected.
+   */
+  public long getPathCost(int first, int second) {
+    return climb(first, second, true);
+  }
+
+  private int idOf(Node<T> node) {
+    int id = getNodeId(node);
+    if (id < 0) {
+      throw new IllegalArgumentException("node is not in the graph: " + node);
+    }
+    return id;
+  }
+
+  private long climb(int first, int second, boolean sum) {
+    if (!connected(first, second)) {
+      throw new IllegalArgumentException("nodes are not connected: " + first + ", " + second);
+    }
+    long result = sum ? 0 : Integer.MIN_VALUE;
+    if (this.depths[first] < this.depths[second]) {
+      int swap = first;
+      first = second;
+      second = swap;
+    }
+    int difference = this.depths[first] - this.depths[second];
+    for (int level = 0; difference != 0; level++, difference >>>= 1) {
+      if ((difference & 1) != 0) {
+        result = combine(result, level, first, sum);
+        first = this.ancestors[level][first];
+      }
+    }
+    if (first == second) {
+      return result;
+    }
+    for (int level = this.ancestors.length - 1; level >= 0; level--) {
+      if (this.ancestors[level][first] != this.ancestors[level][second]) {
+        result = combine(result, level, first, sum);
+        result = combine(result, level, second, sum);
+        first = this.ancestors[level][first];
+        second = this.ancestors[level][second];
+      }
+    }
+    result = combine(result, 0, first, sum);
+    return combine(result, 0, second, sum);
+  }
+
+  private long combine(long result, int level, int node, boolean sum) {
+    return sum ? result + this.costs[level][node]
+            : Math.max(result, this.maxWeights[level][node]);
+  }
+}
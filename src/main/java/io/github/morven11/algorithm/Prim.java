@@ -0,0 +1,104 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+
+/**
+ * This is Prim class, it grows the tree from a node taking the cheapest
+ * edge that leaves it, using an indexed d-ary heap with decrease key.
+ * It runs in O(E log_d V) without sorting the edges, so it is the
+ * better engine for dense graphs.
+ */
+public class Prim implements MstAlgorithm {
+
+  private static final int DEFAULT_ARITY = 4;
+
+  private final int arity;
+
+  /**
+   * This is the constructor of the Prim class with a 4-ary heap.
+   */
+  public Prim() {
+    this(DEFAULT_ARITY);
+  }
+
+  /**
+   * This is the constructor of the Prim class.
+   *
+   * @param arity The number of children of every heap entry.
+   */
+  public Prim(int arity) {
+    if (arity < 2) {
+      throw new IllegalArgumentException("arity must be at least 2: " + arity);
+    }
+    this.arity = arity;
+  }
+
+  @Override
+  public EdgeList compute(CsrGraph<?> graph) {
+    int numNodes = graph.getNumNodes();
+    int[] sources = null;
+    int[] reverseOffsets = null;
+    int[] reverseSlots = null;
+    if (graph.isDirected()) {
+      sources = new int[graph.getNumSlots()];
+      reverseOffsets = new int[numNodes + 1];
+      reverseSlots = new int[graph.getNumSlots()];
+      reverseIndex(graph, sources, reverseOffsets, reverseSlots);
+    }
+    IndexedHeap heap = new IndexedHeap(numNodes, this.arity);
+    boolean[] inTree = new boolean[numNodes];
+    int[] parents = new int[numNodes];
+    EdgeList tree = new EdgeList(Math.max(0, numNodes - 1));
+    for (int root = 0; root < numNodes; root++) {
+      if (inTree[root]) {
+        continue;
+      }
+      parents[root] = -1;
+      heap.offer(root, Long.MIN_VALUE);
+      while (!heap.isEmpty()) {
+        int node = heap.poll();
+        inTree[node] = true;
+        if (parents[node] >= 0) {
+          tree.add((int) heap.getKey(node), parents[node], node);
+        }
+        for (int slot = graph.getOffset(node); slot < graph.getOffset(node + 1); slot++) {
+          relax(heap, inTree, parents, node, graph.getTarget(slot), graph.getWeight(slot));
+        }
+        if (reverseSlots == null) {
+          continue;
+        }
+        for (int i = reverseOffsets[node]; i < reverseOffsets[node + 1]; i++) {
+          int slot = reverseSlots[i];
+          relax(heap, inTree, parents, node, sources[slot], graph.getWeight(slot));
+        }
+      }
+    }
+    return tree;
+  }
+
+  private static void relax(IndexedHeap heap, boolean[] inTree, int[] parents,
+                            int node, int neighbour, int weight) {
+    if (!inTree[neighbour] && heap.offer(neighbour, weight)) {
+      parents[neighbour] = node;
+    }
+  }
+
+  private static void reverseIndex(CsrGraph<?> graph, int[] sources,
+                                   int[] reverseOffsets, int[] reverseSlots) {
+    int numNodes = graph.getNumNodes();
+    for (int source = 0; source < numNodes; source++) {
+      for (int slot = graph.getOffset(source); slot < graph.getOffset(source + 1); slot++) {
+        sources[slot] = source;
+        reverseOffsets[graph.getTarget(slot) + 1]++;
+      }
+    }
+    for (int node = 0; node < numNodes; node++) {
+      reverseOffsets[node + 1] += reverseOffsets[node];
+    }
+    int[] next = reverseOffsets.clone();
+    for (int slot = 0; slot < sources.length; slot++) {
+      reverseSlots[next[graph.getTarget(slot)]++] = slot;
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import java.util.Arrays;
+
+/**
+ * This is SingleLinkage class T extends comparable T, a single linkage
+ * clustering of the nodes of a graph. It runs the Kruskal loop and stops
+ * as soon as there are only the wanted number of clusters left or the
+ * next edge is longer than the maximum distance, so the rest of the tree
+ * is never joined. Every join is kept in a dendrogram made of arrays:
+ * the node ids are the clusters [0, V) and the i-th merge makes the
+ * cluster V + i out of two older ones.
+ * A directed graph is used as if its edges were undirected.
+ *
+ * @param <T> T is the Generic Parameter.
+ */
+public class SingleLinkage<T extends Comparable<T>> {
+
+  private final CsrGraph<T> graph;
+  private final int[] clusters;
+  private final int numClusters;
+  private final int[] mergeFirst;
+  private final int[] mergeSecond;
+  private final int[] mergeHeights;
+  private final int[] mergeSizes;
+  private final int numMerges;
+
+  /**
+   * This is the constructor of the SingleLinkage class that stops at a number of clusters.
+   *
+   * @param graph       The graph to cluster.
+   * @param numClusters The number of clusters to stop at.
+   */
+  public SingleLinkage(Graph<T> graph, int numClusters) {
+    this(graph, numClusters, Integer.MAX_VALUE);
+  }
+
+  /**
+   * This is the constructor of the SingleLinkage class that stops at a number
+   * of clusters or at a maximum distance.
+   *
+   * @param graph       The graph to cluster.
+   * @param numClusters The number of clusters to stop at, 1 to join every component.
+   * @param maxDistance The longest edge that may join two clusters.
+   */
+  public SingleLinkage(Graph<T> graph, int numClusters, int maxDistance) {
+    this(new CsrGraph<>(graph), numClusters, maxDistance);
+  }
+
+  /**
+   * This is the constructor of the SingleLinkage class. The joins stop at the
+   * first of the two limits, a graph that is not connected may end with
+   * more clusters than asked.
+   *
+   * @param graph       The compressed graph to cluster.
+   * @param numClusters The number of clusters to stop at, 1 to join every component.
+   * @param maxDistance The longest edge that may join two clusters.
+   */
+  public SingleLinkage(CsrGraph<T> graph, int numClusters, int maxDistance) {
+    if (numClusters < 1) {
+      throw new IllegalArgumentException("numClusters must be positive: " + numClusters);
+    }
+    this.graph = graph;
+    int numNodes = graph.getNumNodes();
+    int maxMerges = Math.max(0, numNodes - numClusters);
+    this.mergeFirst = new int[maxMerges];
+    this.mergeSecond = new int[maxMerges];
+    this.mergeHeights = new int[maxMerges];
+    this.mergeSizes = new int[maxMerges];
+    EdgeList edges = graph.toEdgeList();
+    edges.sortByWeight();
+    DisjointSet subsets = new DisjointSet(numNodes);
+    int[] clusterOfRoot = new int[numNodes];
+    int[] sizeOfRoot = new int[numNodes];
+    for (int node = 0; node < numNodes; node++) {
+      clusterOfRoot[node] = node;
+      sizeOfRoot[node] = 1;
+    }
+    int merges = 0;
+    for (int i = 0; i < edges.size() && merges < maxMerges; i++) {
+      if (edges.getWeight(i) > maxDistance) {
+        break;
+      }
+      int first = subsets.find(edges.getSource(i));
+      int second = subsets.find(edges.getDestination(i));
+      if (first == second) {
+        continue;
+      }
+      subsets.union(first, second);
+      int root = subsets.find(first);
+      this.mergeFirst[merges] = clusterOfRoot[first];
+      this.mergeSecond[merges] = clusterOfRoot[second];
+      this.mergeHeights[merges] = edges.getWeight(i);
+      this.mergeSizes[merges] = sizeOfRoot[first] + sizeOfRoot[second];
+      clusterOfRoot[root] = numNodes + merges;
+      sizeOfRoot[root] = this.mergeSizes[merges];
+      merges++;
+    }
+    this.numMerges = merges;
+    this.clusters = new int[numNodes];
+    int[] labelOfRoot = new int[numNodes];
+    Arrays.fill(labelOfRoot, -1);
+    int labels = 0;
+    for (int node = 0; node < numNodes; node++) {
+      int root = subsets.find(node);
+      if (labelOfRoot[root] < 0) {
+        labelOfRoot[root] = labels++;
+      }
+      this.clusters[node] = labelOfRoot[root];
+    }
+    this.numClusters = labels;
+  }
+
+  /**
+   * This method gives the number of clusters.
+   *
+   * @return The number of clusters.
+   */
+  public int getNumClusters() {
+    return this.numClusters;
+  }
+
+  /**
+   * This method gives the cluster of a node, the clusters are numbered
+   * in the order of their first node.
+   *
+   * @param node The node to search.
+   * @return The cluster or -1 when the node is not in the graph.
+   */
+  public int getCluster(Node<T> node) {
+    int id = this.graph.indexOf(node);
+    return id < 0 ? -1 : this.clusters[id];
+  }
+
+  /**
+   * This method gives the cluster of a node id.
+   *
+   * @param id The node id of the compressed graph.
+   * @return The cluster.
+   */
+  public int getCluster(int id) {
+    return this.clusters[id];
+  }
+
+  /**
+   * This method gives the node of an id, the leaves of the dendrogram.
+   *
+   * @param id The node id of the compressed graph.
+   * @return The node.
+   */
+  public Node<T> getNode(int id) {
+    return this.graph.getNode(id);
+  }
+
+  /**
+   * This method gives the number of merges of the dendrogram.
+   *
+   * @return The number of merges.
+   */
+  public int getNumMerges() {
+    return this.numMerges;
+  }
+
+  /**
+   * This method gives the first cluster joined by a merge.
+   *
+   * @param merge The position of the merge.
+   * @return A node id or V + the position of an older merge.
+   */
+  public int getMergeFirst(int merge) {
+    checkMerge(merge);
+    return this.mergeFirst[merge];
+  }
+
+  /**
+   * This method gives the second cluster joined by a merge.
+   *
+   * @param merge The position of the merge.
+   * @return A node id or V + the position of an older merge.
+   */
+  public int getMergeSecond(int merge) {
+    checkMerge(merge);
+    return this.mergeSecond[merge];
+  }
+
+  /**
+   * This method gives the distance at which a merge happened, it never
+   * decreases from one merge to the next.
+   *
+   * @param merge The position of the merge.
+   * @return The weight of the joining edge.
+   */
+  public int getMergeHeight(int merge) {
+    checkMerge(merge);
+    return this.mergeHeights[merge];
+  }
+
+  /**
+   * This method gives the number of nodes in the cluster made by a merge.
+   *
+   * @param merge The position of the merge.
+   * @return The size of the new cluster.
+   */
+  public int getMergeSize(int merge) {
+    checkMerge(merge);
+    return this.mergeSizes[merge];
+  }
+
+  private void checkMerge(int merge) {
+    if (merge < 0 || merge >= this.numMerges) {
+      throw new IndexOutOfBoundsException("merge " + merge + " of " + this.numMerges);
+    }
+  }
+}
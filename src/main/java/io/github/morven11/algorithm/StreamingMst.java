@@ -0,0 +1,189 @@
+package io.github.morven11.algorithm;
+
+import io.github.morven11.graphs.Edge;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.NodeIndex;
+import io.github.morven11.graphs.UndirectedGraph;
+
+/**
+ * This is StreamingMst class T extends comparable T, it builds a minimum
+ * spanning forest from edges that arrive one at a time without keeping them.
+ * The edges are buffered and, when the buffer is full, the current forest and
+ * the buffer are compacted by Kruskal into the new forest, so the memory is
+ * O(V + batch size) instead of O(E).
+ *
+ * @param <T> T is the Generic Parameter.
+ */
+public class StreamingMst<T extends Comparable<T>> {
+
+  private static final int DEFAULT_BATCH_SIZE = 1 << 16;
+
+  private final int batchSize;
+  private final NodeIndex<T> nodes;
+  private final EdgeList buffer;
+  private EdgeList forest;
+
+  /**
+   * This is the constructor of the StreamingMst class.
+   */
+  public StreamingMst() {
+    this(DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * This is the constructor of the StreamingMst class.
+   *
+   * @param batchSize The number of edges buffered before a compaction.
+   */
+  public StreamingMst(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+    }
+    this.batchSize = batchSize;
+    this.nodes = new NodeIndex<>();
+    this.buffer = new EdgeList(batchSize);
+    this.forest = new EdgeList(0);
+  }
+
+  /**
+   * This method add an Edge of the stream, self loops are ignored.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   */
+  public void addEdge(int weight, Node<T> source, Node<T> destination) {
+    int sourceId = this.nodes.intern(source);
+    int destinationId = this.nodes.intern(destination);
+    if (sourceId == destinationId) {
+      return;
+    }
+    this.buffer.add(weight, sourceId, destinationId);
+    if (this.buffer.size() >= this.batchSize) {
+      compact();
+    }
+  }
+
+  /**
+   * This method add a batch of edges of the stream.
+   *
+   * @param edges The edges to add.
+   */
+  public void addEdges(Iterable<Edge<T>> edges) {
+    for (Edge<T> edge : edges) {
+      addEdge(edge.getWeight(), edge.getSource(), edge.getDestination());
+    }
+  }
+
+  /**
+   * This method add a node of the stream that may have no edges.
+   *
+   * @param node The node to add.
+   */
+  public void addNode(Node<T> node) {
+    this.nodes.intern(node);
+  }
+
+  /**
+   * This method gives the number of nodes seen in the stream.
+   *
+   * @return The number of nodes.
+   */
+  public int getNumNodes() {
+    return this.nodes.size();
+  }
+
+  /**
+   * This method gives the Node of an id of the forest.
+   *
+   * @param id The id of the node.
+   * @return The node.
+   */
+  public Node<T> getNode(int id) {
+    return this.nodes.getNodeById(id);
+  }
+
+  /**
+   * This method gives a copy of the current forest as node ids,
+   * the buffered edges are compacted first.
+   *
+   * @return The edges of the forest.
+   */
+  public EdgeList getForest() {
+    compact();
+    EdgeList copy = new EdgeList(this.forest.size());
+    copy.addAll(this.forest);
+    return copy;
+  }
+
+  /**
+   * This method gives the cost of the current forest.
+   *
+   * @return The minimum cost.
+   * @throws ArithmeticException when the cost does not fit in an int.
+   */
+  public Integer getMinimumCost() {
+    return Math.toIntExact(getMinimumCostAsLong());
+  }
+
+  /**
+   * This method gives the cost of the current forest summed in a long.
+   *
+   * @return The minimum cost.
+   */
+  public long getMinimumCostAsLong() {
+    EdgeList edges = getForest();
+    long cost = 0;
+    for (int i = 0; i < edges.size(); i++) {
+      cost += edges.getWeight(i);
+    }
+    return cost;
+  }
+
+  /**
+   * This method verify if the forest is a single tree over every node seen.
+   *
+   * @return True if it is a spanning tree and False when not.
+   */
+  public boolean isSpanningTree() {
+    return this.nodes.size() > 0 && getForest().size() == this.nodes.size() - 1;
+  }
+
+  /**
+   * This method gives the current forest as a graph.
+   *
+   * @return The forest as an UndirectedGraph.
+   */
+  public Graph<T> getGraph() {
+    EdgeList edges = getForest();
+    Graph<T> graph = new UndirectedGraph<>();
+    for (int id = 0; id < this.nodes.getIdBound(); id++) {
+      graph.addNode(this.nodes.getNodeById(id));
+    }
+    for (int i = 0; i < edges.size(); i++) {
+      graph.addEdge(edges.getWeight(i), this.nodes.getNodeById(edges.getSource(i)),
+              this.nodes.getNodeById(edges.getDestination(i)));
+    }
+    return graph;
+  }
+
+  private void compact() {
+    if (this.buffer.size() == 0) {
+      return;
+    }
+    EdgeList candidates = new EdgeList(this.forest.size() + this.buffer.size());
+    candidates.addAll(this.forest);
+    candidates.addAll(this.buffer);
+    candidates.sortByWeight();
+    this.forest = Kruskal.spanningForest(candidates, this.nodes.size());
+    this.buffer.clear();
+  }
+
+  @Override
+  public String toString() {
+    return this.getGraph().toString()
+            + "Minimum Cost: " + this.getMinimumCostAsLong();
+  }
+}
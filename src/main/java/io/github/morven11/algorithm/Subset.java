@@ -6,7 +6,10 @@ import io.github.morven11.graphs.Node;
  * This is Subset Class, This class has the Parent and Rank of a Node.
  *
  * @param <T> T the Generic Parameter.
+ * @deprecated Mst no longer uses it, use {@link DisjointSet} instead,
+ *     or {@link ConcurrentDisjointSet} from many threads.
  */
+@Deprecated
 public class Subset<T extends Comparable<T>> {
 
   private Node<T> parent;
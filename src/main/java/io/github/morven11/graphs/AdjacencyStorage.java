@@ -0,0 +1,122 @@
+package io.github.morven11.graphs;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This is AdjacencyStorage interface, it creates the collections a Graph
+ * keeps its nodes and edges in, so a graph can trade the order of its
+ * iteration for speed. It is chosen when the graph is built.
+ */
+public interface AdjacencyStorage {
+
+  /**
+   * The nodes and edges are kept sorted, every lookup costs O(log n)
+   * comparisons. This is the default storage.
+   */
+  AdjacencyStorage ORDERED = new AdjacencyStorage() {
+    @Override
+    public <T extends Comparable<T>> Map<Node<T>, Set<Edge<T>>> newAdjacencySets(
+            NodeIndex<T> nodeIndex) {
+      return new TreeMap<>();
+    }
+
+    @Override
+    public <T extends Comparable<T>> Set<Edge<T>> newEdgeSet() {
+      return new TreeSet<>();
+    }
+  };
+
+  /**
+   * The nodes and edges are kept in hash tables and iterated
+   * in insertion order.
+   */
+  AdjacencyStorage HASHED = new AdjacencyStorage() {
+    @Override
+    public <T extends Comparable<T>> Map<Node<T>, Set<Edge<T>>> newAdjacencySets(
+            NodeIndex<T> nodeIndex) {
+      return new HashMap<>();
+    }
+
+    @Override
+    public <T extends Comparable<T>> Set<Edge<T>> newEdgeSet() {
+      return new LinkedHashSet<>();
+    }
+
+    @Override
+    public <T extends Comparable<T>> Set<Edge<T>> newEdgeSet(int expectedSize) {
+      return new LinkedHashSet<>(hashCapacity(expectedSize));
+    }
+  };
+
+  /**
+   * The edge sets are kept in an array indexed by the int id of the
+   * node, the nodes are iterated in the order of their ids. Only the
+   * node lookup is keyed by id: the array is an ArrayList of
+   * LinkedHashSet of Edge objects, so every edge still costs an object
+   * and a hash entry. The compact primitive form is CsrGraph.
+   */
+  AdjacencyStorage INDEXED = new AdjacencyStorage() {
+    @Override
+    public <T extends Comparable<T>> Map<Node<T>, Set<Edge<T>>> newAdjacencySets(
+            NodeIndex<T> nodeIndex) {
+      return new IndexedNodeMap<>(nodeIndex);
+    }
+
+    @Override
+    public <T extends Comparable<T>> Set<Edge<T>> newEdgeSet() {
+      return new LinkedHashSet<>();
+    }
+
+    @Override
+    public <T extends Comparable<T>> Set<Edge<T>> newEdgeSet(int expectedSize) {
+      return new LinkedHashSet<>(hashCapacity(expectedSize));
+    }
+  };
+
+  /**
+   * This method creates the map from every node to its outgoing edges.
+   * A node is interned in the index before it is put in the map and
+   * removed from the index after it is removed from the map.
+   *
+   * @param nodeIndex The ids of the nodes of the graph.
+   * @param <T>       T is the Generic Parameter.
+   * @return The empty map.
+   */
+  <T extends Comparable<T>> Map<Node<T>, Set<Edge<T>>> newAdjacencySets(NodeIndex<T> nodeIndex);
+
+  /**
+   * This method creates the set of the outgoing edges of a node.
+   *
+   * @param <T> T is the Generic Parameter.
+   * @return The empty set.
+   */
+  <T extends Comparable<T>> Set<Edge<T>> newEdgeSet();
+
+  /**
+   * This method creates the set of the outgoing edges of a node that
+   * will hold a known number of edges.
+   *
+   * @param expectedSize The number of edges the set will hold.
+   * @param <T>          T is the Generic Parameter.
+   * @return The empty set.
+   */
+  default <T extends Comparable<T>> Set<Edge<T>> newEdgeSet(int expectedSize) {
+    return newEdgeSet();
+  }
+
+  /**
+   * This method gives the capacity of a hash table that holds
+   * a number of entries without growing.
+   *
+   * @param expectedSize The number of entries.
+   * @return The capacity.
+   */
+  static int hashCapacity(int expectedSize) {
+    return (int) Math.ceil(expectedSize / 0.75);
+  }
+}
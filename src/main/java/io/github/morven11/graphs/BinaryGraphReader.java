@@ -0,0 +1,250 @@
+package io.github.morven11.graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This is BinaryGraphReader class T -> extends Comparable T, it maps a file
+ * written by BinaryGraphWriter into memory. Only the node dictionary is kept
+ * in the heap, the edges are read straight from the mapped file. The header
+ * and the node ids of every edge are checked when the file is opened, so a
+ * truncated or corrupt file fails there with an IOException.
+ *
+ * @param <T> The Generic Parameter.
+ */
+public class BinaryGraphReader<T extends Comparable<T>> implements AutoCloseable {
+
+  private static final long EDGES_PER_SEGMENT = Integer.MAX_VALUE / BinaryGraphWriter.EDGE_BYTES;
+
+  private final FileChannel channel;
+  private final boolean directed;
+  private final List<Node<T>> nodes;
+  private final long numEdges;
+  private final MappedByteBuffer[] segments;
+
+  /**
+   * This is the constructor of the BinaryGraphReader class.
+   *
+   * @param path    The file to read.
+   * @param decoder The function that turns the text of a node into an element.
+   * @throws IOException When the file can not be read or has a wrong format.
+   */
+  public BinaryGraphReader(Path path, Function<String, T> decoder) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      ByteBuffer header = this.channel.map(FileChannel.MapMode.READ_ONLY, 0,
+              BinaryGraphWriter.HEADER_BYTES);
+      if (header.getInt() != BinaryGraphWriter.MAGIC) {
+        throw new IOException("not a binary graph file: " + path);
+      }
+      int version = header.getInt();
+      if (version != BinaryGraphWriter.VERSION) {
+        throw new IOException("unsupported binary graph version: " + version);
+      }
+      this.directed = (header.getInt() & BinaryGraphWriter.DIRECTED_FLAG) != 0;
+      int numNodes = header.getInt();
+      this.numEdges = header.getLong();
+      long dictionaryBytes = header.getLong();
+      if (numNodes < 0 || this.numEdges < 0 || dictionaryBytes < 0) {
+        throw new IOException("binary graph header is corrupt: " + path);
+      }
+      if (dictionaryBytes > Integer.MAX_VALUE) {
+        throw new IOException("node dictionary is too big: " + dictionaryBytes);
+      }
+      long start = BinaryGraphWriter.HEADER_BYTES + dictionaryBytes;
+      if (this.channel.size() < start
+              || (this.channel.size() - start) / BinaryGraphWriter.EDGE_BYTES < this.numEdges) {
+        throw new IOException("binary graph file is truncated: " + path);
+      }
+      // every node takes at least the int of its length in the dictionary
+      if (numNodes > dictionaryBytes / Integer.BYTES) {
+        throw new IOException("node dictionary is corrupt: " + path);
+      }
+      ByteBuffer dictionary = this.channel.map(FileChannel.MapMode.READ_ONLY,
+              BinaryGraphWriter.HEADER_BYTES, dictionaryBytes);
+      this.nodes = new ArrayList<>(numNodes);
+      byte[] name = new byte[0];
+      for (int i = 0; i < numNodes; i++) {
+        int length = dictionary.remaining() < Integer.BYTES ? -1 : dictionary.getInt();
+        if (length < 0 || length > dictionary.remaining()) {
+          throw new IOException("node dictionary is corrupt: " + path);
+        }
+        if (name.length < length) {
+          name = new byte[length];
+        }
+        dictionary.get(name, 0, length);
+        this.nodes.add(new Node<>(decoder.apply(new String(name, 0, length,
+                StandardCharsets.UTF_8))));
+      }
+      int numSegments = (int) ((this.numEdges + EDGES_PER_SEGMENT - 1) / EDGES_PER_SEGMENT);
+      this.segments = new MappedByteBuffer[numSegments];
+      for (int i = 0; i < numSegments; i++) {
+        long first = i * EDGES_PER_SEGMENT;
+        long count = Math.min(EDGES_PER_SEGMENT, this.numEdges - first);
+        this.segments[i] = this.channel.map(FileChannel.MapMode.READ_ONLY,
+                start + first * BinaryGraphWriter.EDGE_BYTES, count * BinaryGraphWriter.EDGE_BYTES);
+        checkNodeIds(this.segments[i], first, numNodes, path);
+      }
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * This method verify if the file has a directed graph.
+   *
+   * @return True if the graph is directed and False when not.
+   */
+  public boolean isDirected() {
+    return this.directed;
+  }
+
+  /**
+   * This method gives the Number of Nodes in the file.
+   *
+   * @return The Number of Nodes.
+   */
+  public int getNumNodes() {
+    return this.nodes.size();
+  }
+
+  /**
+   * This method gives the number of Edges in the file,
+   * an undirected edge is counted once.
+   *
+   * @return The number of Edges.
+   */
+  public long getNumEdges() {
+    return this.numEdges;
+  }
+
+  /**
+   * This method gives the Node of an id.
+   *
+   * @param id The id of the node.
+   * @return The node.
+   */
+  public Node<T> getNode(int id) {
+    return this.nodes.get(id);
+  }
+
+  /**
+   * This method gives the source id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The source id.
+   */
+  public int getSource(long index) {
+    return field(index, 0);
+  }
+
+  /**
+   * This method gives the destination id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The destination id.
+   */
+  public int getDestination(long index) {
+    return field(index, 1);
+  }
+
+  /**
+   * This method gives the weight of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The weight.
+   */
+  public int getWeight(long index) {
+    return field(index, 2);
+  }
+
+  /**
+   * This method gives every edge of the file to a consumer in file order.
+   *
+   * @param consumer The consumer of the edges.
+   */
+  public void forEachEdge(EdgeConsumer consumer) {
+    for (MappedByteBuffer segment : this.segments) {
+      int limit = segment.limit();
+      for (int position = 0; position < limit; position += BinaryGraphWriter.EDGE_BYTES) {
+        consumer.accept(segment.getInt(position + 2 * Integer.BYTES),
+                segment.getInt(position), segment.getInt(position + Integer.BYTES));
+      }
+    }
+  }
+
+  /**
+   * This method copies the edges of the file into an EdgeList.
+   *
+   * @return The EdgeList.
+   */
+  public EdgeList toEdgeList() {
+    if (this.numEdges > Integer.MAX_VALUE) {
+      throw new IllegalStateException("too many edges for an EdgeList: " + this.numEdges);
+    }
+    EdgeList edges = new EdgeList((int) this.numEdges);
+    forEachEdge(edges::add);
+    return edges;
+  }
+
+  /**
+   * This method builds a Graph with the content of the file.
+   *
+   * @return A DirectedGraph or an UndirectedGraph.
+   */
+  public Graph<T> toGraph() {
+    return new GraphBuilder<T>(this.directed).addEdges(toEdgeList(), this.nodes).build();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.channel.close();
+  }
+
+  private static void checkNodeIds(MappedByteBuffer segment, long first, int numNodes,
+                                   Path path) throws IOException {
+    int limit = segment.limit();
+    for (int position = 0; position < limit; position += BinaryGraphWriter.EDGE_BYTES) {
+      int source = segment.getInt(position);
+      int destination = segment.getInt(position + Integer.BYTES);
+      if (source < 0 || source >= numNodes || destination < 0 || destination >= numNodes) {
+        throw new IOException("edge " + (first + position / BinaryGraphWriter.EDGE_BYTES)
+                + " has a node id out of range: " + path);
+      }
+    }
+  }
+
+  private int field(long index, int field) {
+    if (index < 0 || index >= this.numEdges) {
+      throw new IndexOutOfBoundsException("edge " + index + " of " + this.numEdges);
+    }
+    MappedByteBuffer segment = this.segments[(int) (index / EDGES_PER_SEGMENT)];
+    int position = (int) (index % EDGES_PER_SEGMENT) * BinaryGraphWriter.EDGE_BYTES;
+    return segment.getInt(position + field * Integer.BYTES);
+  }
+
+  /**
+   * This is the consumer of the edges of a file.
+   */
+  @FunctionalInterface
+  public interface EdgeConsumer {
+
+    /**
+     * This method receives an Edge.
+     *
+     * @param weight      The weight of the Edge.
+     * @param source      The source id of the Edge.
+     * @param destination The destination id of the Edge.
+     */
+    void accept(int weight, int source, int destination);
+  }
+}
@@ -0,0 +1,97 @@
+package io.github.morven11.graphs;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * This is BinaryGraphWriter class T -> extends Comparable T, it dumps a Graph
+ * into the binary edge list format read by BinaryGraphReader.
+ * The file has a header, a node dictionary and the edges as packed
+ * (source, destination, weight) int triples, an undirected edge is written once.
+ *
+ * @param <T> The Generic Parameter.
+ */
+public class BinaryGraphWriter<T extends Comparable<T>> {
+
+  static final int MAGIC = 0x4B52534B;
+  static final int VERSION = 1;
+  static final int DIRECTED_FLAG = 1;
+  static final int HEADER_BYTES = 32;
+  static final int EDGE_BYTES = 12;
+
+  private final Function<T, String> encoder;
+
+  /**
+   * This is the constructor of the BinaryGraphWriter class.
+   *
+   * @param encoder The function that turns an element into text.
+   */
+  public BinaryGraphWriter(Function<T, String> encoder) {
+    if (encoder == null) {
+      throw new IllegalArgumentException("encoder must not be null");
+    }
+    this.encoder = encoder;
+  }
+
+  /**
+   * This method write a Graph into a file, the file is replaced.
+   *
+   * @param graph The graph to write.
+   * @param path  The file.
+   * @throws IOException When the file can not be written.
+   */
+  public void write(Graph<T> graph, Path path) throws IOException {
+    boolean directed = graph.isDirected();
+    Map<Node<T>, Integer> ids = new HashMap<>();
+    byte[][] names = new byte[graph.getAllNodes().size()][];
+    long dictionaryBytes = 0;
+    for (Node<T> node : graph.getAllNodes()) {
+      byte[] name = this.encoder.apply(node.getElement()).getBytes(StandardCharsets.UTF_8);
+      names[ids.size()] = name;
+      ids.put(node, ids.size());
+      dictionaryBytes += Integer.BYTES + name.length;
+    }
+    long numEdges = 0;
+    for (Node<T> node : graph.getAllNodes()) {
+      for (Edge<T> edge : graph.getEdgesNode(node)) {
+        if (isWritten(directed, ids, edge)) {
+          numEdges++;
+        }
+      }
+    }
+    try (OutputStream file = Files.newOutputStream(path);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(directed ? DIRECTED_FLAG : 0);
+      out.writeInt(names.length);
+      out.writeLong(numEdges);
+      out.writeLong(dictionaryBytes);
+      for (byte[] name : names) {
+        out.writeInt(name.length);
+        out.write(name);
+      }
+      for (Node<T> node : graph.getAllNodes()) {
+        for (Edge<T> edge : graph.getEdgesNode(node)) {
+          if (isWritten(directed, ids, edge)) {
+            out.writeInt(ids.get(edge.getSource()));
+            out.writeInt(ids.get(edge.getDestination()));
+            out.writeInt(edge.getWeight());
+          }
+        }
+      }
+    }
+  }
+
+  private boolean isWritten(boolean directed, Map<Node<T>, Integer> ids, Edge<T> edge) {
+    return directed || ids.get(edge.getSource()) <= ids.get(edge.getDestination());
+  }
+}
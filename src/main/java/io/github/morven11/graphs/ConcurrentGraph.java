@@ -0,0 +1,663 @@
+package io.github.morven11.graphs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This is ConcurrentGraph class T -> extends Comparable T, a Graph that
+ * many threads can change at the same time. It wraps a DirectedGraph or an
+ * UndirectedGraph: the Edges are changed under a shared lock plus the
+ * striped locks of their ends, so writers on different nodes run in
+ * parallel, and the Nodes are added, updated or removed under an
+ * exclusive lock. The reads give copies, never live views, and
+ * getAdjSets, getAllEdges, toString and hashCode read the whole Graph
+ * from snapshot, so they see a consistent state and wait for the writers
+ * only when the Graph changed since the last snapshot. The wrapper keeps
+ * its own counters and no maps of its own.
+ * snapshot gives the same immutable CsrGraph until a write changes the
+ * version, so readers that run an Mst on it do not block the writers.
+ * The listeners are called from the writing threads one event at a time,
+ * so a listener that is not thread safe sees the changes in sequence. A
+ * listener must not change the Graph or lock its nodes again.
+ *
+ * @param <T> The Generic Parameter.
+ */
+public class ConcurrentGraph<T extends Comparable<T>> extends Graph<T> {
+
+  private static final int DEFAULT_STRIPES = 64;
+
+  private final Graph<T> graph;
+  private final ReentrantReadWriteLock structureLock;
+  private final Lock[] stripes;
+  private final LongAdder numNodes;
+  private final LongAdder numEdges;
+  private final AtomicLong version;
+  private final Lock listenerLock;
+  private volatile Snapshot<T> snapshot;
+
+  /**
+   * This is the constructor of the ConcurrentGraph with the ordered storage.
+   *
+   * @param directed True for directed Edges and False for undirected ones.
+   */
+  public ConcurrentGraph(boolean directed) {
+    this(directed, AdjacencyStorage.ORDERED, DEFAULT_STRIPES);
+  }
+
+  /**
+   * This is the constructor of the ConcurrentGraph.
+   *
+   * @param directed True for directed Edges and False for undirected ones.
+   * @param storage  The storage of the nodes and edges.
+   * @param stripes  The number of locks the nodes are spread over,
+   *                 it is rounded up to a power of two.
+   */
+  public ConcurrentGraph(boolean directed, AdjacencyStorage storage, int stripes) {
+    this(directed ? new DirectedGraph<>(storage) : new UndirectedGraph<>(storage), stripes);
+  }
+
+  private ConcurrentGraph(Graph<T> graph, int stripes) {
+    super(graph);
+    if (stripes < 1) {
+      throw new IllegalArgumentException("stripes must be positive: " + stripes);
+    }
+    this.graph = graph;
+    this.structureLock = new ReentrantReadWriteLock();
+    int numStripes = 1;
+    while (numStripes < stripes) {
+      numStripes <<= 1;
+    }
+    this.stripes = new Lock[numStripes];
+    for (int i = 0; i < this.stripes.length; i++) {
+      this.stripes[i] = new ReentrantLock();
+    }
+    this.numNodes = new LongAdder();
+    this.numEdges = new LongAdder();
+    this.version = new AtomicLong();
+    this.listenerLock = new ReentrantLock();
+  }
+
+  @Override
+  public AdjacencyStorage getStorage() {
+    return this.graph.getStorage();
+  }
+
+  @Override
+  public boolean isDirected() {
+    return this.graph.isDirected();
+  }
+
+  @Override
+  public Integer getNumNodes() {
+    return this.numNodes.intValue();
+  }
+
+  @Override
+  public Integer getNumEdges() {
+    return this.numEdges.intValue();
+  }
+
+  /**
+   * This method add a listener that is told about every change of the edges.
+   * The writers on different nodes run in parallel, so the events of all the
+   * listeners are passed through one lock and never overlap.
+   *
+   * @param listener The listener to add.
+   */
+  @Override
+  public void addListener(GraphListener<T> listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener must not be null");
+    }
+    this.structureLock.writeLock().lock();
+    try {
+      this.graph.addListener(new SerialListener<>(listener, this.listenerLock));
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean removeListener(GraphListener<T> listener) {
+    if (listener == null) {
+      return false;
+    }
+    this.structureLock.writeLock().lock();
+    try {
+      return this.graph.removeListener(new SerialListener<>(listener, this.listenerLock));
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * This method gives a copy of the Adjacency Set of the Graph, every Edge
+   * of an undirected Graph is shared by the sets of both of its ends.
+   * It is built from snapshot, so it blocks the writers only when the
+   * Graph changed since the last snapshot.
+   *
+   * @return The copy of the Adjacency Set.
+   */
+  @Override
+  public Map<Node<T>, Set<Edge<T>>> getAdjSets() {
+    return adjSetsOf(snapshot());
+  }
+
+  @Override
+  public Set<Edge<T>> getAllEdges() {
+    Set<Edge<T>> allEdges = new TreeSet<>();
+    for (Set<Edge<T>> edges : adjSetsOf(snapshot()).values()) {
+      allEdges.addAll(edges);
+    }
+    return Collections.unmodifiableSet(allEdges);
+  }
+
+  @Override
+  public Set<Node<T>> getAllNodes() {
+    this.structureLock.readLock().lock();
+    try {
+      return new LinkedHashSet<>(this.graph.getAllNodes());
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean containsNode(Node<T> node) {
+    this.structureLock.readLock().lock();
+    try {
+      return this.graph.containsNode(node);
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Set<Edge<T>> getEdgesNode(Node<T> node) {
+    this.structureLock.readLock().lock();
+    Lock stripe = stripeOf(node);
+    stripe.lock();
+    try {
+      Set<Edge<T>> edges = this.graph.getEdgesNode(node);
+      if (edges == null) {
+        return null;
+      }
+      Set<Edge<T>> copy = new LinkedHashSet<>();
+      for (Edge<T> edge : edges) {
+        copy.add(copyOf(edge));
+      }
+      return copy;
+    } finally {
+      stripe.unlock();
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Node<T> getNode(T node) {
+    this.structureLock.readLock().lock();
+    try {
+      return this.graph.getNode(node);
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public int getNodeId(Node<T> node) {
+    this.structureLock.readLock().lock();
+    try {
+      return this.graph.getNodeId(node);
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Node<T> getNodeById(int id) {
+    this.structureLock.readLock().lock();
+    try {
+      return this.graph.getNodeById(id);
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public int getNodeIdBound() {
+    this.structureLock.readLock().lock();
+    try {
+      return this.graph.getNodeIdBound();
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean addNode(Node<T> newNode) {
+    this.structureLock.writeLock().lock();
+    try {
+      if (!this.graph.addNode(newNode)) {
+        return false;
+      }
+      this.numNodes.increment();
+      this.version.incrementAndGet();
+      return true;
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean removeNode(Node<T> node) {
+    this.structureLock.writeLock().lock();
+    try {
+      if (!this.graph.containsNode(node)) {
+        return false;
+      }
+      int removed = countEdges(node);
+      if (!this.graph.removeNode(node)) {
+        return false;
+      }
+      this.numEdges.add(-removed);
+      this.numNodes.decrement();
+      this.version.incrementAndGet();
+      return true;
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean updateNode(Node<T> node, T newElement) {
+    this.structureLock.writeLock().lock();
+    try {
+      if (!this.graph.updateNode(node, newElement)) {
+        return false;
+      }
+      this.version.incrementAndGet();
+      return true;
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public Edge<T> getEdge(int weight, Node<T> source, Node<T> destination) {
+    this.structureLock.readLock().lock();
+    Lock stripe = stripeOf(source);
+    stripe.lock();
+    try {
+      Edge<T> edge = this.graph.getEdge(weight, source, destination);
+      return edge == null ? null : copyOf(edge);
+    } finally {
+      stripe.unlock();
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean hasEdge(int weight, Node<T> source, Node<T> destination) {
+    this.structureLock.readLock().lock();
+    Lock stripe = stripeOf(source);
+    stripe.lock();
+    try {
+      return this.graph.hasEdge(weight, source, destination);
+    } finally {
+      stripe.unlock();
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public int getWeight(Node<T> source, Node<T> destination) {
+    this.structureLock.readLock().lock();
+    Lock stripe = stripeOf(source);
+    stripe.lock();
+    try {
+      return this.graph.getWeight(source, destination);
+    } finally {
+      stripe.unlock();
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean addEdge(int weight, Node<T> source, Node<T> destination) {
+    if (source == null || destination == null) {
+      return false;
+    }
+    while (true) {
+      this.structureLock.readLock().lock();
+      try {
+        if (this.graph.containsNode(source) && this.graph.containsNode(destination)) {
+          lockEnds(source, destination);
+          try {
+            if (!this.graph.addEdge(weight, source, destination)) {
+              return false;
+            }
+            this.numEdges.increment();
+            this.version.incrementAndGet();
+            return true;
+          } finally {
+            unlockEnds(source, destination);
+          }
+        }
+      } finally {
+        this.structureLock.readLock().unlock();
+      }
+      addNode(source);
+      addNode(destination);
+    }
+  }
+
+  @Override
+  public boolean removeEdge(int weight, Node<T> source, Node<T> destination) {
+    this.structureLock.readLock().lock();
+    try {
+      if (!this.graph.containsNode(source) || !this.graph.containsNode(destination)) {
+        return false;
+      }
+      lockEnds(source, destination);
+      try {
+        if (!this.graph.removeEdge(weight, source, destination)) {
+          return false;
+        }
+        this.numEdges.decrement();
+        this.version.incrementAndGet();
+        return true;
+      } finally {
+        unlockEnds(source, destination);
+      }
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean updateEdge(int weight, Node<T> source, Node<T> destination, int newWeight) {
+    this.structureLock.readLock().lock();
+    try {
+      if (!this.graph.containsNode(source) || !this.graph.containsNode(destination)) {
+        return false;
+      }
+      lockEnds(source, destination);
+      try {
+        if (!this.graph.updateEdge(weight, source, destination, newWeight)) {
+          return false;
+        }
+        this.version.incrementAndGet();
+        return true;
+      } finally {
+        unlockEnds(source, destination);
+      }
+    } finally {
+      this.structureLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * This method gives a copy of the Graph taken while no thread
+   * is changing it, as a DirectedGraph or an UndirectedGraph.
+   *
+   * @return The copy.
+   */
+  public Graph<T> copy() {
+    this.structureLock.writeLock().lock();
+    try {
+      GraphBuilder<T> builder = new GraphBuilder<>(this.graph.isDirected(),
+              this.graph.getStorage());
+      for (Map.Entry<Node<T>, Set<Edge<T>>> entry : this.graph.getAdjSets().entrySet()) {
+        builder.addNode(entry.getKey());
+        for (Edge<T> edge : entry.getValue()) {
+          builder.addEdge(edge.getWeight(), edge.getSource(), edge.getDestination());
+        }
+      }
+      return builder.build();
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public long getVersion() {
+    return this.version.get();
+  }
+
+  /**
+   * This method gives an immutable copy of the Graph. It is built under the
+   * exclusive lock only when a write happened since the last one, the other
+   * calls give the same CsrGraph without taking any lock.
+   *
+   * @return The compressed copy.
+   */
+  @Override
+  public CsrGraph<T> snapshot() {
+    Snapshot<T> current = this.snapshot;
+    if (current != null && current.version == this.version.get()) {
+      return current.graph;
+    }
+    this.structureLock.writeLock().lock();
+    try {
+      current = this.snapshot;
+      long now = this.version.get();
+      if (current == null || current.version != now) {
+        current = new Snapshot<>(now, new CsrGraph<>(this.graph));
+        this.snapshot = current;
+      }
+      return current.graph;
+    } finally {
+      this.structureLock.writeLock().unlock();
+    }
+  }
+
+  private Lock stripeOf(Node<T> node) {
+    return this.stripes[stripeIndex(node)];
+  }
+
+  private int stripeIndex(Node<T> node) {
+    int hash = node.hashCode();
+    return (hash ^ (hash >>> 16)) & (this.stripes.length - 1);
+  }
+
+  private void lockEnds(Node<T> source, Node<T> destination) {
+    int first = stripeIndex(source);
+    int second = stripeIndex(destination);
+    this.stripes[Math.min(first, second)].lock();
+    if (first != second) {
+      this.stripes[Math.max(first, second)].lock();
+    }
+  }
+
+  private void unlockEnds(Node<T> source, Node<T> destination) {
+    int first = stripeIndex(source);
+    int second = stripeIndex(destination);
+    if (first != second) {
+      this.stripes[Math.max(first, second)].unlock();
+    }
+    this.stripes[Math.min(first, second)].unlock();
+  }
+
+  private static <T extends Comparable<T>> Edge<T> copyOf(Edge<T> edge) {
+    return new Edge<>(edge.getWeight(), edge.getSource(), edge.getDestination());
+  }
+
+  /**
+   * This method counts the Edges that touch a node, a self loop once.
+   * It must be called under the exclusive lock.
+   */
+  private int countEdges(Node<T> node) {
+    Set<Edge<T>> outgoing = this.graph.getEdgesNode(node);
+    if (!this.graph.isDirected()) {
+      return outgoing.size();
+    }
+    int count = outgoing.size();
+    for (Edge<T> edge : ((DirectedGraph<T>) this.graph).getIncomingEdges(node)) {
+      if (!edge.getSource().equals(node)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * This method gives the Adjacency Set of a snapshot with new Nodes and
+   * Edges, an Edge of an undirected Graph is shared by both of its ends.
+   */
+  private static <T extends Comparable<T>> Map<Node<T>, Set<Edge<T>>> adjSetsOf(
+          CsrGraph<T> csr) {
+    List<Node<T>> nodes = new ArrayList<>(csr.getNumNodes());
+    Map<Node<T>, Set<Edge<T>>> adjSets = new LinkedHashMap<>();
+    for (int id = 0; id < csr.getNumNodes(); id++) {
+      Node<T> node = csr.getNode(id);
+      nodes.add(node);
+      adjSets.put(node, new LinkedHashSet<>());
+    }
+    for (int id = 0; id < csr.getNumNodes(); id++) {
+      Node<T> source = nodes.get(id);
+      for (int slot = csr.getOffset(id); slot < csr.getOffset(id + 1); slot++) {
+        int target = csr.getTarget(slot);
+        Node<T> destination = nodes.get(target);
+        if (csr.isDirected()) {
+          adjSets.get(source).add(new Edge<>(csr.getWeight(slot), source, destination));
+        } else if (target >= id) {
+          Edge<T> edge = source.compareTo(destination) <= 0
+                  ? new Edge<>(csr.getWeight(slot), source, destination)
+                  : new Edge<>(csr.getWeight(slot), destination, source);
+          adjSets.get(source).add(edge);
+          adjSets.get(destination).add(edge);
+        }
+      }
+    }
+    return adjSets;
+  }
+
+  @Override
+  public String toString() {
+    CsrGraph<T> csr = snapshot();
+    StringBuilder sb = new StringBuilder();
+    for (int id = 0; id < csr.getNumNodes(); id++) {
+      Node<T> source = csr.getNode(id);
+      sb.append(source).append(" -> {");
+      for (int slot = csr.getOffset(id); slot < csr.getOffset(id + 1); slot++) {
+        Node<T> destination = csr.getNode(csr.getTarget(slot));
+        sb.append(" [ ").append(new Edge<>(csr.getWeight(slot), source, destination))
+                .append(" ],");
+      }
+      sb.deleteCharAt(sb.length() - 1);
+      sb.append(" }\n");
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ConcurrentGraph<?> other)) {
+      return false;
+    }
+    return this.isDirected() == other.isDirected()
+            && this.getAllEdges().equals(other.getAllEdges());
+  }
+
+  @Override
+  public int hashCode() {
+    return adjSetsOf(snapshot()).hashCode();
+  }
+
+  private static final class Snapshot<T extends Comparable<T>> {
+
+    private final long version;
+    private final CsrGraph<T> graph;
+
+    private Snapshot(long version, CsrGraph<T> graph) {
+      this.version = version;
+      this.graph = graph;
+    }
+  }
+
+  private static final class SerialListener<T extends Comparable<T>>
+          implements GraphListener<T> {
+
+    private final GraphListener<T> listener;
+    private final Lock lock;
+
+    private SerialListener(GraphListener<T> listener, Lock lock) {
+      this.listener = listener;
+      this.lock = lock;
+    }
+
+    @Override
+    public void edgeAdded(Edge<T> edge) {
+      this.lock.lock();
+      try {
+        this.listener.edgeAdded(edge);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public void edgeRemoved(Edge<T> edge) {
+      this.lock.lock();
+      try {
+        this.listener.edgeRemoved(edge);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public void edgeUpdated(Edge<T> edge, int oldWeight) {
+      this.lock.lock();
+      try {
+        this.listener.edgeUpdated(edge, oldWeight);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public void nodeRemoved(Node<T> node) {
+      this.lock.lock();
+      try {
+        this.listener.nodeRemoved(node);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public void nodeUpdated(Node<T> node, T oldElement) {
+      this.lock.lock();
+      try {
+        this.listener.nodeUpdated(node, oldElement);
+      } finally {
+        this.lock.unlock();
+      }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof SerialListener<?> other && this.listener.equals(other.listener);
+    }
+
+    @Override
+    public int hashCode() {
+      return this.listener.hashCode();
+    }
+  }
+}
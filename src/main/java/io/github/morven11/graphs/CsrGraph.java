@@ -0,0 +1,190 @@
+package io.github.morven11.graphs;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is CsrGraph class T -> extends Comparable T.
+ * An immutable compressed sparse row copy of a Graph, every node
+ * gets a dense int id and the edges are kept in primitive arrays.
+ * Later changes of the Graph are not seen, so a CsrGraph can be shared
+ * between threads without locks.
+ *
+ * @param <T> The Generic Parameter.
+ */
+public final class CsrGraph<T extends Comparable<T>> {
+
+  private final Node<T>[] nodes;
+  private final Map<Node<T>, Integer> ids;
+  private final boolean directed;
+  private final int[] offsets;
+  private final int[] targets;
+  private final int[] weights;
+
+  /**
+   * This is the constructor of the CsrGraph class.
+   * The ids follow the iteration order of the Graph nodes.
+   *
+   * @param graph The graph to copy.
+   */
+  @SuppressWarnings("unchecked")
+  public CsrGraph(Graph<T> graph) {
+    Map<Node<T>, Set<Edge<T>>> adjSets = graph.getAdjSets();
+    int numNodes = adjSets.size();
+    this.nodes = (Node<T>[]) new Node<?>[numNodes];
+    this.ids = new HashMap<>(Math.max(16, (int) (numNodes / 0.75f) + 1));
+    this.directed = graph.isDirected();
+    int id = 0;
+    int numSlots = 0;
+    for (Map.Entry<Node<T>, Set<Edge<T>>> entry : adjSets.entrySet()) {
+      // updateNode changes a Node in place, so the copy keeps its own
+      this.nodes[id] = new Node<>(entry.getKey().getElement());
+      this.ids.put(this.nodes[id], id++);
+      numSlots += entry.getValue().size();
+    }
+    this.offsets = new int[numNodes + 1];
+    this.targets = new int[numSlots];
+    this.weights = new int[numSlots];
+    int slot = 0;
+    int source = 0;
+    for (Map.Entry<Node<T>, Set<Edge<T>>> entry : adjSets.entrySet()) {
+      this.offsets[source++] = slot;
+      Node<T> node = entry.getKey();
+      for (Edge<T> edge : entry.getValue()) {
+        Node<T> target = edge.getSource().equals(node) ? edge.getDestination() : edge.getSource();
+        this.targets[slot] = this.ids.get(target);
+        this.weights[slot] = edge.getWeight();
+        slot++;
+      }
+    }
+    this.offsets[numNodes] = slot;
+  }
+
+  /**
+   * This method verify if the graph was copied from a directed graph.
+   * An undirected graph keeps every edge in both directions.
+   *
+   * @return True if the graph is directed and False when not.
+   */
+  public boolean isDirected() {
+    return this.directed;
+  }
+
+  /**
+   * This method gives the Number of Nodes in the graph.
+   *
+   * @return The Number of Nodes.
+   */
+  public int getNumNodes() {
+    return this.nodes.length;
+  }
+
+  /**
+   * This method gives the number of stored edge slots, an undirected
+   * edge uses two of them.
+   *
+   * @return The number of slots.
+   */
+  public int getNumSlots() {
+    return this.targets.length;
+  }
+
+  /**
+   * This method gives a copy of the Node of an id, so a caller that
+   * renames it does not change the CsrGraph.
+   *
+   * @param id The id of the node.
+   * @return The copy of the node.
+   */
+  public Node<T> getNode(int id) {
+    return new Node<>(this.nodes[id].getElement());
+  }
+
+  /**
+   * This method gives the id of a Node.
+   *
+   * @param node The node to search.
+   * @return The id or -1 when the node is not in the graph.
+   */
+  public int indexOf(Node<T> node) {
+    Integer id = this.ids.get(node);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * This method gives the first slot of the edges of a node,
+   * the edges of the node are in [getOffset(node), getOffset(node + 1)).
+   *
+   * @param node The id of the node, getNumNodes() is allowed.
+   * @return The first slot.
+   */
+  public int getOffset(int node) {
+    return this.offsets[node];
+  }
+
+  /**
+   * This method gives the number of edges of a node.
+   *
+   * @param node The id of the node.
+   * @return The degree.
+   */
+  public int getDegree(int node) {
+    return this.offsets[node + 1] - this.offsets[node];
+  }
+
+  /**
+   * This method gives the destination id of a slot.
+   *
+   * @param slot The slot of the edge.
+   * @return The destination id.
+   */
+  public int getTarget(int slot) {
+    return this.targets[slot];
+  }
+
+  /**
+   * This method gives the weight of a slot.
+   *
+   * @param slot The slot of the edge.
+   * @return The weight.
+   */
+  public int getWeight(int slot) {
+    return this.weights[slot];
+  }
+
+  /**
+   * This method gives every edge once as an EdgeList of node ids,
+   * the mirrored slots of an undirected graph and the self loops are skipped.
+   *
+   * @return The EdgeList in slot order.
+   */
+  public EdgeList toEdgeList() {
+    EdgeList edges = new EdgeList(this.directed ? this.targets.length : this.targets.length / 2);
+    for (int source = 0; source < this.nodes.length; source++) {
+      for (int slot = this.offsets[source]; slot < this.offsets[source + 1]; slot++) {
+        int destination = this.targets[slot];
+        if (source == destination || !this.directed && destination < source) {
+          continue;
+        }
+        edges.add(this.weights[slot], source, destination);
+      }
+    }
+    return edges;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int source = 0; source < this.nodes.length; source++) {
+      sb.append(this.nodes[source]).append(" -> {");
+      for (int slot = this.offsets[source]; slot < this.offsets[source + 1]; slot++) {
+        sb.append(" [ ").append(this.nodes[this.targets[slot]])
+                .append(" | weight: ").append(this.weights[slot]).append(" ],");
+      }
+      sb.deleteCharAt(sb.length() - 1);
+      sb.append(" }\n");
+    }
+    return sb.toString();
+  }
+}
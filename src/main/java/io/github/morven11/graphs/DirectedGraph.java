@@ -1,10 +1,15 @@
 package io.github.morven11.graphs;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * This is DirectedGraph class T -> extends Comparable T and
- * DirectedGraph extends Graph T.
+ * DirectedGraph extends Graph T. It can keep an index of the incoming
+ * Edges of every node, then getIncomingEdges and removeNode take
+ * O(in-degree + out-degree) instead of a pass over every node.
  *
  * @param <T> the Generic Parameter.
  */
@@ -17,45 +22,97 @@ public class DirectedGraph<T extends Comparable<T>> extends Graph<T> {
     super();
   }
 
+  /**
+   * This is the constructor of the DirectedGraph with a given storage.
+   *
+   * @param storage The storage of the nodes and edges.
+   */
+  public DirectedGraph(AdjacencyStorage storage) {
+    super(storage);
+  }
+
+  /**
+   * This is the constructor of the DirectedGraph with a given storage
+   * that may keep the incoming Edges of every node.
+   *
+   * @param storage       The storage of the nodes and edges.
+   * @param indexIncoming True to keep the incoming Edges.
+   */
+  public DirectedGraph(AdjacencyStorage storage, boolean indexIncoming) {
+    super(storage, indexIncoming);
+  }
+
+  /**
+   * This method verify if the Graph keeps the incoming Edges of its nodes.
+   *
+   * @return True if the incoming Edges are kept and False when not.
+   */
+  public boolean isIncomingIndexed() {
+    return super.hasIncomingIndex();
+  }
+
+  /**
+   * This method gives the Edges that end at a node. Without the incoming
+   * index every node of the Graph is searched.
+   *
+   * @param node The destination Node.
+   * @return A new Set with the incoming Edges or null when the node is not in the Graph.
+   */
+  public Set<Edge<T>> getIncomingEdges(Node<T> node) {
+    if (!super.containsNode(node)) {
+      return null;
+    }
+    Set<Edge<T>> incoming = super.getStorage().newEdgeSet();
+    if (super.hasIncomingIndex()) {
+      incoming.addAll(super.getIncomingIndex(node).values());
+      return incoming;
+    }
+    for (Node<T> source : super.getAllNodes()) {
+      Edge<T> edge = super.getEdgeIndex(source).get(node);
+      if (edge != null) {
+        incoming.add(edge);
+      }
+    }
+    return incoming;
+  }
+
   @Override
-  public boolean addEdge(Integer weight, Node<T> source, Node<T> destination) {
+  public boolean addEdge(int weight, Node<T> source, Node<T> destination) {
     super.addNode(source);
     super.addNode(destination);
     if (!super.addEdgeFromTo(weight, source, destination)) {
       return false;
     }
     super.increaseNumEdges();
+    if (super.hasListeners()) {
+      super.fireEdgeAdded(super.getEdge(weight, source, destination));
+    }
     return true;
   }
 
   @Override
-  public boolean removeEdge(Integer weight, Node<T> source, Node<T> destination) {
-    Edge<T> e1 = new Edge<>(weight, source, destination);
-    for (Node<T> node : super.getAllNodes()) {
-      Set<Edge<T>> edges = super.getEdgesNode(node);
-      boolean contains = edges.stream().anyMatch(e -> e.equals(e1));
-      if (!contains) {
-        continue;
-      }
-      super.decreaseNumEdges();
-      return edges.removeIf(e -> e.equals(e1));
+  public boolean removeEdge(int weight, Node<T> source, Node<T> destination) {
+    Edge<T> removed = super.removeEdgeFromTo(weight, source, destination);
+    if (removed == null) {
+      return false;
     }
-    return false;
+    super.decreaseNumEdges();
+    if (super.hasListeners()) {
+      super.fireEdgeRemoved(removed);
+    }
+    return true;
   }
 
   @Override
-  public boolean updateEdge(Integer weight, Node<T> source, Node<T> destination, int newWeight) {
-    Edge<T> e1 = new Edge<>(weight, source, destination);
-    for (Node<T> node : getAllNodes()) {
-      Set<Edge<T>> edges = super.getEdgesNode(node);
-      boolean contains = edges.stream().anyMatch(e -> e.equals(e1));
-      if (!contains) {
-        continue;
-      }
-      edges.stream().filter(e -> e.equals(e1)).findFirst().orElseThrow().setWeight(newWeight);
-      return true;
+  public boolean updateEdge(int weight, Node<T> source, Node<T> destination, int newWeight) {
+    Edge<T> updated = super.updateEdgeFromTo(weight, source, destination, newWeight);
+    if (updated == null) {
+      return false;
     }
-    return false;
+    if (super.hasListeners()) {
+      super.fireEdgeUpdated(updated, weight);
+    }
+    return true;
   }
 
   @Override
@@ -63,21 +120,32 @@ public class DirectedGraph<T extends Comparable<T>> extends Graph<T> {
     if (!super.containsNode(node)) {
       return false;
     }
-    int count = 0;
-    for (Node<T> source : super.getAllNodes()) {
-      if (source.equals(node)) {
-        continue;
+    List<Edge<T>> removed = new ArrayList<>();
+    if (super.hasIncomingIndex()) {
+      Map<Node<T>, Edge<T>> incoming = super.getIncomingIndex(node);
+      for (Edge<T> edge : new ArrayList<>(incoming.values())) {
+        if (!edge.getSource().equals(node)) {
+          removed.add(super.removeEdgeFromTo(edge.getWeight(), edge.getSource(), node));
+        }
       }
-      Set<Edge<T>> edges = super.getEdgesNode(source);
-      boolean result = edges.removeIf(e -> e.getDestination().equals(node));
-      if (result) {
-        count++;
+    } else {
+      for (Node<T> source : super.getAllNodes()) {
+        if (source.equals(node)) {
+          continue;
+        }
+        Edge<T> edge = super.getEdgeIndex(source).get(node);
+        if (edge != null) {
+          removed.add(super.removeEdgeFromTo(edge.getWeight(), source, node));
+        }
       }
     }
-    count += super.getEdgesNode(node).size();
-    super.getAdjSets().remove(node);
-    super.decreaseAnAmountNumEdges(count);
+    removed.addAll(super.removeNodeEntry(node));
+    super.decreaseAnAmountNumEdges(removed.size());
     super.decreaseNumNodes();
+    for (Edge<T> edge : removed) {
+      super.fireEdgeRemoved(edge);
+    }
+    super.fireNodeRemoved(node);
     return true;
   }
 }
@@ -0,0 +1,149 @@
+package io.github.morven11.graphs;
+
+import java.util.Arrays;
+
+/**
+ * This is DoubleEdgeList class, the edges of a graph with fractional
+ * weights packed in primitive arrays as (weight, source, destination)
+ * triples of node ids, like EdgeList does for int weights.
+ */
+public final class DoubleEdgeList {
+
+  private double[] weights;
+  private int[] sources;
+  private int[] destinations;
+  private int size;
+
+  /**
+   * This is the constructor of the DoubleEdgeList class.
+   *
+   * @param capacity The expected number of edges.
+   */
+  public DoubleEdgeList(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+    }
+    this.weights = new double[capacity];
+    this.sources = new int[capacity];
+    this.destinations = new int[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * This method add an Edge at the end of the list.
+   *
+   * @param weight      The weight of the Edge, it must be a number.
+   * @param source      The source id of the Edge.
+   * @param destination The destination id of the Edge.
+   */
+  public void add(double weight, int source, int destination) {
+    if (Double.isNaN(weight)) {
+      throw new IllegalArgumentException("weight must be a number");
+    }
+    if (this.size == this.weights.length) {
+      int capacity = Math.max(16, this.size + (this.size >> 1));
+      this.weights = Arrays.copyOf(this.weights, capacity);
+      this.sources = Arrays.copyOf(this.sources, capacity);
+      this.destinations = Arrays.copyOf(this.destinations, capacity);
+    }
+    this.weights[this.size] = weight;
+    this.sources[this.size] = source;
+    this.destinations[this.size] = destination;
+    this.size++;
+  }
+
+  /**
+   * This method add every edge of another list at the end of this one.
+   *
+   * @param other The list to copy.
+   */
+  public void addAll(DoubleEdgeList other) {
+    for (int i = 0; i < other.size; i++) {
+      add(other.weights[i], other.sources[i], other.destinations[i]);
+    }
+  }
+
+  /**
+   * This method remove every edge of the list, the arrays are kept.
+   */
+  public void clear() {
+    this.size = 0;
+  }
+
+  /**
+   * This method gives the number of edges in the list.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * This method gives the weight of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The weight.
+   */
+  public double getWeight(int index) {
+    return this.weights[index];
+  }
+
+  /**
+   * This method gives the source id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The source id.
+   */
+  public int getSource(int index) {
+    return this.sources[index];
+  }
+
+  /**
+   * This method gives the destination id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The destination id.
+   */
+  public int getDestination(int index) {
+    return this.destinations[index];
+  }
+
+  /**
+   * This method sort the edges by weight, edges with the same weight
+   * keep their order and -0.0 comes before 0.0. The bits of every weight
+   * are turned into a key with the same unsigned order for the radix sort.
+   */
+  public void sortByWeight() {
+    if (this.size < 2) {
+      return;
+    }
+    long[] keys = new long[this.size];
+    long min = -1L;
+    for (int i = 0; i < this.size; i++) {
+      keys[i] = orderedBits(this.weights[i]);
+      min = Long.compareUnsigned(keys[i], min) < 0 ? keys[i] : min;
+    }
+    for (int i = 0; i < this.size; i++) {
+      keys[i] -= min;
+    }
+    int[] order = RadixOrder.sort(keys, this.size);
+    double[] sortedWeights = new double[this.weights.length];
+    int[] sortedSources = new int[this.sources.length];
+    int[] sortedDestinations = new int[this.destinations.length];
+    for (int i = 0; i < this.size; i++) {
+      sortedWeights[i] = this.weights[order[i]];
+      sortedSources[i] = this.sources[order[i]];
+      sortedDestinations[i] = this.destinations[order[i]];
+    }
+    this.weights = sortedWeights;
+    this.sources = sortedSources;
+    this.destinations = sortedDestinations;
+  }
+
+  private static long orderedBits(double weight) {
+    long bits = Double.doubleToRawLongBits(weight);
+    // a negative number has every bit flipped, a positive one only the sign
+    return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+  }
+}
@@ -36,7 +36,9 @@ public class Edge<T extends Comparable<T>> implements Comparable<Edge<T>> {
   }
 
   /**
-   * This method update the weight of the Edge.
+   * This method update the weight of the Edge. The Graph is not told, so
+   * the weight of an Edge that is in a Graph must be changed with
+   * Graph.updateEdge instead.
    *
    * @param weight The new Weight of the Edge.
    */
@@ -62,51 +64,51 @@ public class Edge<T extends Comparable<T>> implements Comparable<Edge<T>> {
     return source;
   }
 
+  /**
+   * This method gives the Edge seen from its destination, the returned
+   * Edge is a new view that shares the weight with this one.
+   *
+   * @return The reversed Edge.
+   */
+  public Edge<T> reversed() {
+    return new ReversedEdge<>(this);
+  }
+
   @Override
   public String toString() {
-    return this.source.toString() + " -> "
-            + this.destination.toString() + " | " + "weight: " + this.weight;
+    return this.getSource().toString() + " -> "
+            + this.getDestination().toString() + " | " + "weight: " + this.getWeight();
   }
 
   @Override
   public boolean equals(Object object) {
-    if (object == null) {
-      return false;
-    }
-    if (this.getClass() != object.getClass()) {
-      return false;
-    }
     if (object == this) {
       return true;
     }
-    Edge<?> obj = (Edge<?>) object;
-    return this.source.equals(obj.getSource()) && this.destination.equals(obj.getDestination())
-            && this.weight.equals(obj.getWeight());
+    if (!(object instanceof Edge<?> obj)) {
+      return false;
+    }
+    return this.getSource().equals(obj.getSource())
+            && this.getDestination().equals(obj.getDestination())
+            && this.getWeight().equals(obj.getWeight());
   }
 
   @Override
   public int hashCode() {
-    return this.source.hashCode() + this.destination.hashCode() + this.weight.hashCode();
+    return this.getSource().hashCode() + this.getDestination().hashCode()
+            + this.getWeight().hashCode();
   }
 
   @Override
   public int compareTo(Edge<T> o) {
-    if (!this.weight.equals(o.getWeight()) && this.source == o.getSource()
-            && this.destination == o.getDestination()) {
-      return 0;
-    }
-    if (!this.weight.equals(o.getWeight())) {
-      return this.weight - o.getWeight();
-    }
-    if (this.source != o.getSource() && this.destination != o.getDestination()) {
-      return this.source.compareTo(o.getSource());
-    }
-    if (this.source == o.getSource() && this.destination != o.getDestination()) {
-      return this.destination.compareTo(o.getDestination());
+    int byWeight = Integer.compare(this.getWeight(), o.getWeight());
+    if (byWeight != 0) {
+      return byWeight;
     }
-    if (this.destination == o.getDestination() && this.source != o.getSource()) {
-      return this.source.compareTo(o.getDestination());
+    int bySource = this.getSource().compareTo(o.getSource());
+    if (bySource != 0) {
+      return bySource;
     }
-    return 0;
+    return this.getDestination().compareTo(o.getDestination());
   }
 }
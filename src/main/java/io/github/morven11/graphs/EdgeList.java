@@ -0,0 +1,189 @@
+package io.github.morven11.graphs;
+
+import java.util.Arrays;
+
+/**
+ * This is EdgeList class, the edges of a graph packed in primitive
+ * arrays as (weight, source, destination) triples of node ids.
+ */
+public final class EdgeList {
+
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+  private static final int MIN_RADIX_SIZE = 1 << 10;
+
+  private int[] weights;
+  private int[] sources;
+  private int[] destinations;
+  private int size;
+
+  /**
+   * This is the constructor of the EdgeList class.
+   *
+   * @param capacity The expected number of edges.
+   */
+  public EdgeList(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+    }
+    this.weights = new int[capacity];
+    this.sources = new int[capacity];
+    this.destinations = new int[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * This method add an Edge at the end of the list.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source id of the Edge.
+   * @param destination The destination id of the Edge.
+   */
+  public void add(int weight, int source, int destination) {
+    if (this.size == this.weights.length) {
+      int capacity = Math.max(16, this.size + (this.size >> 1));
+      this.weights = Arrays.copyOf(this.weights, capacity);
+      this.sources = Arrays.copyOf(this.sources, capacity);
+      this.destinations = Arrays.copyOf(this.destinations, capacity);
+    }
+    this.weights[this.size] = weight;
+    this.sources[this.size] = source;
+    this.destinations[this.size] = destination;
+    this.size++;
+  }
+
+  /**
+   * This method add every edge of another list at the end of this one.
+   *
+   * @param other The list to copy.
+   */
+  public void addAll(EdgeList other) {
+    for (int i = 0; i < other.size; i++) {
+      add(other.weights[i], other.sources[i], other.destinations[i]);
+    }
+  }
+
+  /**
+   * This method remove every edge of the list, the arrays are kept.
+   */
+  public void clear() {
+    this.size = 0;
+  }
+
+  /**
+   * This method gives the number of edges in the list.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * This method gives the weight of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The weight.
+   */
+  public int getWeight(int index) {
+    return this.weights[index];
+  }
+
+  /**
+   * This method gives the source id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The source id.
+   */
+  public int getSource(int index) {
+    return this.sources[index];
+  }
+
+  /**
+   * This method gives the destination id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The destination id.
+   */
+  public int getDestination(int index) {
+    return this.destinations[index];
+  }
+
+  /**
+   * This method sort the edges by weight, edges with the same weight
+   * keep their order. Big lists use an LSD radix sort that only runs
+   * the passes needed by the range of the weights, small ones are
+   * sorted with Arrays.sort.
+   */
+  public void sortByWeight() {
+    if (this.size < 2) {
+      return;
+    }
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (int i = 0; i < this.size; i++) {
+      min = Math.min(min, this.weights[i]);
+      max = Math.max(max, this.weights[i]);
+    }
+    if (min == max) {
+      return;
+    }
+    if (this.size < MIN_RADIX_SIZE) {
+      comparisonSort();
+    } else {
+      radixSort(min, (long) max - min);
+    }
+  }
+
+  private void comparisonSort() {
+    long[] keys = new long[this.size];
+    for (int i = 0; i < this.size; i++) {
+      keys[i] = ((long) this.weights[i] << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] sortedSources = new int[this.size];
+    int[] sortedDestinations = new int[this.size];
+    for (int i = 0; i < this.size; i++) {
+      int index = (int) keys[i];
+      sortedSources[i] = this.sources[index];
+      sortedDestinations[i] = this.destinations[index];
+      this.weights[i] = (int) (keys[i] >> 32);
+    }
+    System.arraycopy(sortedSources, 0, this.sources, 0, this.size);
+    System.arraycopy(sortedDestinations, 0, this.destinations, 0, this.size);
+  }
+
+  private void radixSort(int min, long range) {
+    int[] weightsBuffer = new int[this.size];
+    int[] sourcesBuffer = new int[this.size];
+    int[] destinationsBuffer = new int[this.size];
+    int[] counts = new int[RADIX];
+    for (int shift = 0; shift < Integer.SIZE && (range >>> shift) != 0; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < this.size; i++) {
+        counts[((this.weights[i] - min) >>> shift) & (RADIX - 1)]++;
+      }
+      int position = 0;
+      for (int digit = 0; digit < RADIX; digit++) {
+        int count = counts[digit];
+        counts[digit] = position;
+        position += count;
+      }
+      for (int i = 0; i < this.size; i++) {
+        int target = counts[((this.weights[i] - min) >>> shift) & (RADIX - 1)]++;
+        weightsBuffer[target] = this.weights[i];
+        sourcesBuffer[target] = this.sources[i];
+        destinationsBuffer[target] = this.destinations[i];
+      }
+      int[] swap = this.weights;
+      this.weights = weightsBuffer;
+      weightsBuffer = swap;
+      swap = this.sources;
+      this.sources = sourcesBuffer;
+      sourcesBuffer = swap;
+      swap = this.destinations;
+      this.destinations = destinationsBuffer;
+      destinationsBuffer = swap;
+    }
+  }
+}
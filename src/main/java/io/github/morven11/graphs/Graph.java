@@ -1,8 +1,13 @@
 package io.github.morven11.graphs;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.TreeSet;
 
 /**
@@ -12,22 +17,85 @@ import java.util.TreeSet;
  */
 public abstract class Graph<T extends Comparable<T>> {
 
+  private final AdjacencyStorage storage;
   private final Map<Node<T>, Set<Edge<T>>> adjSets;
-  private Integer numEdges;
-  private Integer numNodes;
+  private final Map<Node<T>, Map<Node<T>, Edge<T>>> edgeIndex;
+  private final Map<Node<T>, Map<Node<T>, Edge<T>>> incomingIndex;
+  private final NodeIndex<T> nodeIndex;
+  private final List<GraphListener<T>> listeners;
+  private NavigableSet<Edge<T>> sortedEdges;
+  private Set<Edge<T>> sortedEdgesView;
+  private long version;
+  private CsrGraph<T> snapshot;
+  private long snapshotVersion;
+  private int numEdges;
+  private int numNodes;
 
   /**
    * This is the constructor of the Graph class.
    * Initialize the map and the num of nodes and edges.
    */
   protected Graph() {
-    adjSets = new TreeMap<>();
+    this(AdjacencyStorage.ORDERED);
+  }
+
+  /**
+   * This is the constructor of the Graph class with a given storage.
+   * Initialize the map and the num of nodes and edges.
+   *
+   * @param storage The storage of the nodes and edges.
+   */
+  protected Graph(AdjacencyStorage storage) {
+    this(storage, false);
+  }
+
+  /**
+   * This is the constructor of the Graph class with a given storage that
+   * may also keep the incoming Edges of every node keyed by source. The
+   * incoming index follows the edges added with addEdgeFromTo, so it is
+   * meant for directed graphs.
+   *
+   * @param storage       The storage of the nodes and edges.
+   * @param indexIncoming True to keep the incoming index.
+   */
+  protected Graph(AdjacencyStorage storage, boolean indexIncoming) {
+    if (storage == null) {
+      throw new IllegalArgumentException("storage must not be null");
+    }
+    this.storage = storage;
+    nodeIndex = new NodeIndex<>();
+    adjSets = storage.newAdjacencySets(nodeIndex);
+    edgeIndex = new HashMap<>();
+    incomingIndex = indexIncoming ? new HashMap<>() : null;
+    listeners = new ArrayList<>();
     numEdges = 0;
     numNodes = 0;
   }
 
   /**
-   * This method gives the Adjacency Set of the Graph.
+   * This is the constructor of a Graph that forwards its calls to another
+   * Graph. It keeps no map, index or listener of its own, so the subclass
+   * must override every method that reads them.
+   *
+   * @param delegate The Graph the calls are forwarded to.
+   */
+  protected Graph(Graph<T> delegate) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate must not be null");
+    }
+    this.storage = delegate.storage;
+    nodeIndex = null;
+    adjSets = null;
+    edgeIndex = null;
+    incomingIndex = null;
+    listeners = null;
+  }
+
+  /**
+   * This method gives the Adjacency Set of the Graph. Every Edge of an
+   * UndirectedGraph is stored once and shared by the sets of both of its
+   * ends, so the source of an Edge in the set of a node may be the other
+   * end. getEdgesNode gives the edges of a node oriented away from it.
    *
    * @return The Adjacency Set.
    */
@@ -35,6 +103,54 @@ public abstract class Graph<T extends Comparable<T>> {
     return this.adjSets;
   }
 
+  /**
+   * This method gives the storage of the nodes and edges of the Graph.
+   *
+   * @return The storage.
+   */
+  public AdjacencyStorage getStorage() {
+    return this.storage;
+  }
+
+  /**
+   * This method verify if the Edges of the Graph have a direction.
+   *
+   * @return True if the Graph is directed and False when not.
+   */
+  public boolean isDirected() {
+    return true;
+  }
+
+  /**
+   * This method gives the version of the Graph, it grows with every
+   * change of its nodes or edges.
+   *
+   * @return The version.
+   */
+  public long getVersion() {
+    return this.version;
+  }
+
+  /**
+   * This method gives an immutable copy of the Graph as it is now. The copy
+   * is kept until the Graph changes, so asking again without changes is
+   * free. This Graph is not thread safe, so the snapshot must be taken by
+   * the thread that changes it, or under the lock of the caller; the copy
+   * it gives can then be handed to other threads, for example to run an
+   * Mst, while the writer keeps changing the Graph. Readers that take
+   * their own snapshots while other threads write should use
+   * ConcurrentGraph.snapshot.
+   *
+   * @return The compressed copy.
+   */
+  public CsrGraph<T> snapshot() {
+    if (this.snapshot == null || this.snapshotVersion != this.version) {
+      this.snapshot = new CsrGraph<>(this);
+      this.snapshotVersion = this.version;
+    }
+    return this.snapshot;
+  }
+
   /**
    * This method gives the Number of Nodes in the graph.
    *
@@ -87,19 +203,134 @@ public abstract class Graph<T extends Comparable<T>> {
     this.numEdges -= num;
   }
 
+  /**
+   * This method add a listener that is told about every change of the edges.
+   *
+   * @param listener The listener to add.
+   */
+  public void addListener(GraphListener<T> listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener must not be null");
+    }
+    this.listeners.add(listener);
+  }
+
+  /**
+   * This method remove a listener of the Graph.
+   *
+   * @param listener The listener to remove.
+   * @return True if the listener was removed and False when not.
+   */
+  public boolean removeListener(GraphListener<T> listener) {
+    return this.listeners.remove(listener);
+  }
+
+  /**
+   * This method verify if the Graph has listeners.
+   *
+   * @return True if there is at least one listener and False when not.
+   */
+  protected boolean hasListeners() {
+    return !this.listeners.isEmpty();
+  }
+
+  /**
+   * This method tells the listeners that an Edge was added.
+   *
+   * @param edge The new Edge.
+   */
+  protected void fireEdgeAdded(Edge<T> edge) {
+    for (GraphListener<T> listener : this.listeners) {
+      listener.edgeAdded(edge);
+    }
+  }
+
+  /**
+   * This method tells the listeners that an Edge was removed.
+   *
+   * @param edge The removed Edge.
+   */
+  protected void fireEdgeRemoved(Edge<T> edge) {
+    for (GraphListener<T> listener : this.listeners) {
+      listener.edgeRemoved(edge);
+    }
+  }
+
+  /**
+   * This method tells the listeners that the weight of an Edge was updated.
+   *
+   * @param edge      The updated Edge.
+   * @param oldWeight The weight before the update.
+   */
+  protected void fireEdgeUpdated(Edge<T> edge, int oldWeight) {
+    for (GraphListener<T> listener : this.listeners) {
+      listener.edgeUpdated(edge, oldWeight);
+    }
+  }
+
+  /**
+   * This method tells the listeners that a Node was removed.
+   *
+   * @param node The removed Node.
+   */
+  protected void fireNodeRemoved(Node<T> node) {
+    for (GraphListener<T> listener : this.listeners) {
+      listener.nodeRemoved(node);
+    }
+  }
+
+  /**
+   * This method tells the listeners that the element of a Node was updated.
+   *
+   * @param node       The updated Node.
+   * @param oldElement The element before the update.
+   */
+  protected void fireNodeUpdated(Node<T> node, T oldElement) {
+    for (GraphListener<T> listener : this.listeners) {
+      listener.nodeUpdated(node, oldElement);
+    }
+  }
+
   /**
    * This method gives all the Edges there are exists in the
-   * Adjacency Set.
+   * Adjacency Set ordered by weight, an Edge of an UndirectedGraph is
+   * given once with its ends in order. The set is built on the first call
+   * and then kept up to date by every change of the Graph: it is a live,
+   * unmodifiable view that changes with the Graph, not a copy, and it must
+   * be copied to keep the edges of a moment. The weight of an Edge of the
+   * Graph must only change through updateEdge: Edge.setWeight does not
+   * tell the Graph, so the view would keep it at its old place and the
+   * lookups by weight would miss it.
    *
-   * @return The Tree Set of them.
+   * @return The sorted view of them.
    */
   public Set<Edge<T>> getAllEdges() {
-    Set<Edge<T>> allEdges = new TreeSet<>();
-    for (Node<T> node : getAllNodes()) {
-      Set<Edge<T>> edges = getEdgesNode(node);
-      allEdges.addAll(edges);
+    if (sortedEdges == null) {
+      sortedEdges = new TreeSet<>();
+      for (Set<Edge<T>> edges : adjSets.values()) {
+        sortedEdges.addAll(edges);
+      }
+      sortedEdgesView = Collections.unmodifiableNavigableSet(sortedEdges);
+    }
+    return sortedEdgesView;
+  }
+
+  private void addSortedEdge(Edge<T> edge) {
+    if (sortedEdges != null) {
+      sortedEdges.add(edge);
+    }
+  }
+
+  private void removeSortedEdge(Edge<T> edge) {
+    if (sortedEdges != null) {
+      sortedEdges.remove(edge);
+    }
+  }
+
+  private void removeSortedEdges(Collection<Edge<T>> edges) {
+    if (sortedEdges != null) {
+      sortedEdges.removeAll(edges);
     }
-    return allEdges;
   }
 
   /**
@@ -118,7 +349,7 @@ public abstract class Graph<T extends Comparable<T>> {
    * @return True if the Graph contains the node and False when not.
    */
   public boolean containsNode(Node<T> node) {
-    return adjSets.containsKey(node);
+    return node != null && nodeIndex.indexOf(node.getElement()) >= 0;
   }
 
   /**
@@ -138,8 +369,38 @@ public abstract class Graph<T extends Comparable<T>> {
    * @return The node.
    */
   public Node<T> getNode(T node) {
-    Node<T> nodeToFind = new Node<>(node);
-    return this.getAllNodes().stream().filter(n -> n.equals(nodeToFind)).findFirst().orElse(null);
+    return nodeIndex.getNode(node);
+  }
+
+  /**
+   * This method gives the stable int id of a Node, the ids are never
+   * reused after a node is removed.
+   *
+   * @param node The node to search.
+   * @return The id or -1 when the node is not in the Graph.
+   */
+  public int getNodeId(Node<T> node) {
+    return nodeIndex.indexOf(node.getElement());
+  }
+
+  /**
+   * This method gives the Node of an id.
+   *
+   * @param id The id of the node.
+   * @return The node or null when the node was removed.
+   */
+  public Node<T> getNodeById(int id) {
+    return nodeIndex.getNodeById(id);
+  }
+
+  /**
+   * This method gives a bound of the node ids, arrays of this
+   * size can be indexed by every id.
+   *
+   * @return The bound.
+   */
+  public int getNodeIdBound() {
+    return nodeIndex.getIdBound();
   }
 
   /**
@@ -152,12 +413,79 @@ public abstract class Graph<T extends Comparable<T>> {
     if (newNode == null || this.containsNode(newNode)) {
       return false;
     }
-    Set<Edge<T>> newAdjacencySet = new TreeSet<>();
-    adjSets.put(newNode, newAdjacencySet);
+    nodeIndex.intern(newNode);
+    adjSets.put(newNode, storage.newEdgeSet());
+    edgeIndex.put(newNode, new HashMap<>());
+    if (incomingIndex != null) {
+      incomingIndex.put(newNode, new HashMap<>());
+    }
     this.increaseNumNodes();
+    version++;
     return true;
   }
 
+  /**
+   * This method fills an empty Graph in a single pass, the edges must be
+   * distinct. A shared edge is kept once by both of its ends, like the
+   * edges of an UndirectedGraph. The storage is sized from the degrees
+   * of the nodes.
+   *
+   * @param nodes  The nodes, their positions are the ids of the edges.
+   * @param edges  The edges of the Graph.
+   * @param shared True if every edge is shared by both of its ends.
+   */
+  void load(List<Node<T>> nodes, EdgeList edges, boolean shared) {
+    if (this.numNodes != 0) {
+      throw new IllegalStateException("graph must be empty");
+    }
+    int[] degrees = new int[nodes.size()];
+    for (int i = 0; i < edges.size(); i++) {
+      degrees[edges.getSource(i)]++;
+      if (shared && edges.getSource(i) != edges.getDestination(i)) {
+        degrees[edges.getDestination(i)]++;
+      }
+    }
+    List<Set<Edge<T>>> edgeSets = new ArrayList<>(nodes.size());
+    List<Map<Node<T>, Edge<T>>> edgeIndexes = new ArrayList<>(nodes.size());
+    List<Map<Node<T>, Edge<T>>> incomingIndexes = new ArrayList<>(nodes.size());
+    for (int id = 0; id < nodes.size(); id++) {
+      Node<T> node = nodes.get(id);
+      nodeIndex.intern(node);
+      Set<Edge<T>> nodeEdges = storage.newEdgeSet(degrees[id]);
+      Map<Node<T>, Edge<T>> index = new HashMap<>(AdjacencyStorage.hashCapacity(degrees[id]));
+      adjSets.put(node, nodeEdges);
+      edgeIndex.put(node, index);
+      edgeSets.add(nodeEdges);
+      edgeIndexes.add(index);
+      if (incomingIndex != null) {
+        Map<Node<T>, Edge<T>> incoming = new HashMap<>();
+        incomingIndex.put(node, incoming);
+        incomingIndexes.add(incoming);
+      }
+    }
+    for (int i = 0; i < edges.size(); i++) {
+      int sourceId = edges.getSource(i);
+      int destinationId = edges.getDestination(i);
+      Node<T> source = nodes.get(sourceId);
+      Node<T> destination = nodes.get(destinationId);
+      Edge<T> edge = shared
+              ? newSharedEdge(edges.getWeight(i), source, destination)
+              : new Edge<>(edges.getWeight(i), source, destination);
+      edgeSets.get(sourceId).add(edge);
+      edgeIndexes.get(sourceId).put(destination, edge);
+      if (incomingIndex != null) {
+        incomingIndexes.get(destinationId).put(source, edge);
+      }
+      if (shared) {
+        edgeSets.get(destinationId).add(edge);
+        edgeIndexes.get(destinationId).put(source, edge);
+      }
+    }
+    this.numNodes = nodes.size();
+    this.numEdges = edges.size();
+    version++;
+  }
+
   /**
    * This method remove a Node of the Graph.
    *
@@ -174,13 +502,99 @@ public abstract class Graph<T extends Comparable<T>> {
    * @return True if the method can update the Node and False when not.
    */
   public boolean updateNode(Node<T> node, T newElement) {
-    try {
-      this.getAllNodes().stream()
-              .filter(n -> n.equals(node)).findFirst().orElseThrow().setElement(newElement);
+    if (node == null) {
+      return false;
+    }
+    Node<T> stored = nodeIndex.getNode(node.getElement());
+    if (stored == null) {
+      return false;
+    }
+    if (stored.getElement().equals(newElement)) {
       return true;
-    } catch (Exception e) {
+    }
+    if (nodeIndex.indexOf(newElement) >= 0) {
       return false;
     }
+    T oldElement = stored.getElement();
+    renameNode(stored, newElement);
+    if (hasListeners()) {
+      fireNodeUpdated(stored, oldElement);
+    }
+    return true;
+  }
+
+  /**
+   * This method gives a new element to a Node of the Graph and moves its
+   * entries to the new key, the listeners are not told.
+   *
+   * @param stored     The node of the Graph.
+   * @param newElement The new element T of the node, no other node has it.
+   */
+  protected void renameNode(Node<T> stored, T newElement) {
+    Set<Edge<T>> outEdges = adjSets.remove(stored);
+    Map<Node<T>, Edge<T>> outIndex = edgeIndex.remove(stored);
+    Map<Node<T>, Edge<T>> inEdges = removeIncomingEdges(stored);
+    removeSortedEdges(outEdges);
+    removeSortedEdges(inEdges.values());
+    Edge<T> selfLoop = outIndex.remove(stored);
+    if (incomingIndex != null) {
+      incomingIndex.remove(stored);
+      for (Node<T> destination : outIndex.keySet()) {
+        incomingIndex.get(destination).remove(stored);
+      }
+    }
+    nodeIndex.rename(stored.getElement(), newElement);
+    stored.setElement(newElement);
+    if (selfLoop != null) {
+      outIndex.put(stored, selfLoop);
+    }
+    Set<Edge<T>> newOutEdges = storage.newEdgeSet();
+    newOutEdges.addAll(outEdges);
+    adjSets.put(stored, newOutEdges);
+    edgeIndex.put(stored, outIndex);
+    for (Map.Entry<Node<T>, Edge<T>> entry : inEdges.entrySet()) {
+      adjSets.get(entry.getKey()).add(entry.getValue());
+      edgeIndex.get(entry.getKey()).put(stored, entry.getValue());
+    }
+    if (incomingIndex != null) {
+      Map<Node<T>, Edge<T>> newInIndex = new HashMap<>(inEdges);
+      if (selfLoop != null) {
+        newInIndex.put(stored, selfLoop);
+      }
+      incomingIndex.put(stored, newInIndex);
+      for (Map.Entry<Node<T>, Edge<T>> entry : outIndex.entrySet()) {
+        if (!entry.getKey().equals(stored)) {
+          incomingIndex.get(entry.getKey()).put(stored, entry.getValue());
+        }
+      }
+    }
+    if (sortedEdges != null) {
+      sortedEdges.addAll(newOutEdges);
+      sortedEdges.addAll(inEdges.values());
+    }
+    version++;
+  }
+
+  private Map<Node<T>, Edge<T>> removeIncomingEdges(Node<T> node) {
+    Map<Node<T>, Edge<T>> inEdges = new HashMap<>();
+    if (incomingIndex != null) {
+      for (Map.Entry<Node<T>, Edge<T>> entry : incomingIndex.get(node).entrySet()) {
+        if (!entry.getKey().equals(node)) {
+          edgeIndex.get(entry.getKey()).remove(node);
+          adjSets.get(entry.getKey()).remove(entry.getValue());
+          inEdges.put(entry.getKey(), entry.getValue());
+        }
+      }
+      return inEdges;
+    }
+    for (Map.Entry<Node<T>, Map<Node<T>, Edge<T>>> entry : edgeIndex.entrySet()) {
+      Edge<T> edge = entry.getValue().remove(node);
+      if (edge != null) {
+        adjSets.get(entry.getKey()).remove(edge);
+        inEdges.put(entry.getKey(), edge);
+      }
+    }
+    return inEdges;
   }
 
   /**
@@ -192,16 +606,68 @@ public abstract class Graph<T extends Comparable<T>> {
    * @return True if the method can get the Edge and False when not.
    */
   public Edge<T> getEdge(Integer weight, Node<T> source, Node<T> destination) {
-    if (!this.containsNode(source)) {
+    return weight == null ? null : getEdge(weight.intValue(), source, destination);
+  }
+
+  /**
+   * This method get an Edge of the Adjacency Set without boxing the weight.
+   * An Edge of an undirected Graph looked up from its other end is given
+   * as a new view, hasEdge and getWeight allocate nothing.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return The Edge or null when there is no such Edge.
+   */
+  public Edge<T> getEdge(int weight, Node<T> source, Node<T> destination) {
+    Edge<T> edge = findEdge(weight, source, destination);
+    if (edge == null || edge.getSource().equals(source)) {
+      return edge;
+    }
+    return edge.reversed();
+  }
+
+  /**
+   * This method verify if there is an Edge with a weight between two nodes,
+   * the lookup allocates nothing.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return True if there is such an Edge and False when not.
+   */
+  public boolean hasEdge(int weight, Node<T> source, Node<T> destination) {
+    return findEdge(weight, source, destination) != null;
+  }
+
+  /**
+   * This method gives the weight of the Edge between two nodes,
+   * the lookup allocates nothing.
+   *
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return The weight of the Edge.
+   * @throws IllegalArgumentException when there is no such Edge.
+   */
+  public int getWeight(Node<T> source, Node<T> destination) {
+    Map<Node<T>, Edge<T>> sourceIndex = edgeIndex.get(source);
+    Edge<T> edge = sourceIndex == null ? null : sourceIndex.get(destination);
+    if (edge == null) {
+      throw new IllegalArgumentException("no edge from " + source + " to " + destination);
+    }
+    return edge.getWeight();
+  }
+
+  private Edge<T> findEdge(int weight, Node<T> source, Node<T> destination) {
+    Map<Node<T>, Edge<T>> sourceIndex = edgeIndex.get(source);
+    if (sourceIndex == null) {
       return null;
     }
-    Edge<T> edge = new Edge<>(weight, source, destination);
-    Set<Edge<T>> sourceEdges = this.getEdgesNode(source);
-    boolean containsEdge = sourceEdges.stream().anyMatch(e -> e.equals(edge));
-    if (!containsEdge) {
+    Edge<T> edge = sourceIndex.get(destination);
+    if (edge == null || edge.getWeight() != weight) {
       return null;
     }
-    return sourceEdges.stream().filter(e -> e.equals(edge)).findFirst().orElse(null);
+    return edge;
   }
 
   /**
@@ -212,7 +678,19 @@ public abstract class Graph<T extends Comparable<T>> {
    * @param destination The destination of the Edge.
    * @return True if the method can Add the Edge and False when not.
    */
-  public abstract boolean addEdge(Integer weight, Node<T> source, Node<T> destination);
+  public boolean addEdge(Integer weight, Node<T> source, Node<T> destination) {
+    return weight != null && addEdge(weight.intValue(), source, destination);
+  }
+
+  /**
+   * This method add an Edge in the graph without boxing the weight.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return True if the method can Add the Edge and False when not.
+   */
+  public abstract boolean addEdge(int weight, Node<T> source, Node<T> destination);
 
   /**
    * This method remove an Edge og the Graph.
@@ -222,7 +700,19 @@ public abstract class Graph<T extends Comparable<T>> {
    * @param destination The destination of the Edge.
    * @return True if the method can remove the Edge and False when not.
    */
-  public abstract boolean removeEdge(Integer weight, Node<T> source, Node<T> destination);
+  public boolean removeEdge(Integer weight, Node<T> source, Node<T> destination) {
+    return weight != null && removeEdge(weight.intValue(), source, destination);
+  }
+
+  /**
+   * This method remove an Edge of the Graph without boxing the weight.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return True if the method can remove the Edge and False when not.
+   */
+  public abstract boolean removeEdge(int weight, Node<T> source, Node<T> destination);
 
   /**
    * This method update and Edge of the Graph.
@@ -233,7 +723,21 @@ public abstract class Graph<T extends Comparable<T>> {
    * @param newWeight   The New Weight of the Edge.
    * @return True if the method can update the Edge and False when not.
    */
-  public abstract boolean updateEdge(Integer weight,
+  public boolean updateEdge(Integer weight,
+                            Node<T> source, Node<T> destination, int newWeight) {
+    return weight != null && updateEdge(weight.intValue(), source, destination, newWeight);
+  }
+
+  /**
+   * This method update an Edge of the Graph without boxing the weights.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @param newWeight   The New Weight of the Edge.
+   * @return True if the method can update the Edge and False when not.
+   */
+  public abstract boolean updateEdge(int weight,
                                      Node<T> source, Node<T> destination, int newWeight);
 
   /**
@@ -244,17 +748,201 @@ public abstract class Graph<T extends Comparable<T>> {
    * @param destination The destination of the Edge.
    * @return True if the method can add the Edge and False when not.
    */
-  protected boolean addEdgeFromTo(Integer weight, Node<T> source, Node<T> destination) {
+  protected boolean addEdgeFromTo(int weight, Node<T> source, Node<T> destination) {
+    Map<Node<T>, Edge<T>> sourceIndex = edgeIndex.get(source);
+    if (sourceIndex.containsKey(destination)) {
+      return false;
+    }
     Edge<T> newEdge = new Edge<>(weight, source, destination);
-    Set<Edge<T>> sourceEdges = this.getEdgesNode(source);
-    boolean containsEdge = sourceEdges.stream().anyMatch(e -> e.equals(newEdge));
-    if (containsEdge) {
+    sourceIndex.put(destination, newEdge);
+    adjSets.get(source).add(newEdge);
+    if (incomingIndex != null) {
+      incomingIndex.get(destination).put(source, newEdge);
+    }
+    addSortedEdge(newEdge);
+    version++;
+    return true;
+  }
+
+  /**
+   * This method remove an Edge from the Adjacency Set.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return The removed Edge or null when there is no such Edge.
+   */
+  protected Edge<T> removeEdgeFromTo(int weight, Node<T> source, Node<T> destination) {
+    Edge<T> edge = findEdge(weight, source, destination);
+    if (edge == null) {
+      return null;
+    }
+    edgeIndex.get(source).remove(destination);
+    adjSets.get(source).remove(edge);
+    if (incomingIndex != null) {
+      incomingIndex.get(destination).remove(source);
+    }
+    removeSortedEdge(edge);
+    version++;
+    return edge;
+  }
+
+  /**
+   * This method update the weight of an Edge of the Adjacency Set,
+   * the Edge is moved to keep the Set ordered.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @param newWeight   The New Weight of the Edge.
+   * @return The updated Edge or null when there is no such Edge.
+   */
+  protected Edge<T> updateEdgeFromTo(int weight, Node<T> source,
+                                     Node<T> destination, int newWeight) {
+    Edge<T> edge = findEdge(weight, source, destination);
+    if (edge == null) {
+      return null;
+    }
+    Set<Edge<T>> sourceEdges = adjSets.get(source);
+    sourceEdges.remove(edge);
+    removeSortedEdge(edge);
+    edge.setWeight(newWeight);
+    sourceEdges.add(edge);
+    addSortedEdge(edge);
+    version++;
+    return edge;
+  }
+
+  /**
+   * This method add an Edge that is shared by both of its ends, it is
+   * kept once with its ends in order and given to each end as seen from it.
+   *
+   * @param weight The weight of the Edge.
+   * @param first  One end of the Edge.
+   * @param second The other end of the Edge.
+   * @return True if the method can add the Edge and False when not.
+   */
+  protected boolean addEdgeBetween(int weight, Node<T> first, Node<T> second) {
+    Map<Node<T>, Edge<T>> firstIndex = edgeIndex.get(first);
+    if (firstIndex.containsKey(second)) {
       return false;
     }
-    sourceEdges.add(newEdge);
+    Edge<T> newEdge = newSharedEdge(weight, first, second);
+    firstIndex.put(second, newEdge);
+    adjSets.get(first).add(newEdge);
+    edgeIndex.get(second).put(first, newEdge);
+    adjSets.get(second).add(newEdge);
+    addSortedEdge(newEdge);
+    version++;
     return true;
   }
 
+  /**
+   * This method remove an Edge that is shared by both of its ends.
+   *
+   * @param weight The weight of the Edge.
+   * @param first  One end of the Edge.
+   * @param second The other end of the Edge.
+   * @return The removed Edge or null when there is no such Edge.
+   */
+  protected Edge<T> removeEdgeBetween(int weight, Node<T> first, Node<T> second) {
+    Edge<T> edge = findEdge(weight, first, second);
+    if (edge == null) {
+      return null;
+    }
+    edgeIndex.get(first).remove(second);
+    adjSets.get(first).remove(edge);
+    edgeIndex.get(second).remove(first);
+    adjSets.get(second).remove(edge);
+    removeSortedEdge(edge);
+    version++;
+    return edge;
+  }
+
+  /**
+   * This method update the weight of an Edge that is shared by both of its ends.
+   *
+   * @param weight    The weight of the Edge.
+   * @param first     One end of the Edge.
+   * @param second    The other end of the Edge.
+   * @param newWeight The New Weight of the Edge.
+   * @return The updated Edge or null when there is no such Edge.
+   */
+  protected Edge<T> updateEdgeBetween(int weight, Node<T> first,
+                                      Node<T> second, int newWeight) {
+    Edge<T> edge = findEdge(weight, first, second);
+    if (edge == null) {
+      return null;
+    }
+    adjSets.get(first).remove(edge);
+    adjSets.get(second).remove(edge);
+    removeSortedEdge(edge);
+    edge.setWeight(newWeight);
+    adjSets.get(first).add(edge);
+    adjSets.get(second).add(edge);
+    addSortedEdge(edge);
+    version++;
+    return edge;
+  }
+
+  private static <T extends Comparable<T>> Edge<T> newSharedEdge(int weight,
+                                                                Node<T> first, Node<T> second) {
+    return first.compareTo(second) <= 0
+            ? new Edge<>(weight, first, second) : new Edge<>(weight, second, first);
+  }
+
+  /**
+   * This method gives the outgoing Edges of a node keyed by destination.
+   *
+   * @param node The source Node.
+   * @return The index of the Edges.
+   */
+  protected Map<Node<T>, Edge<T>> getEdgeIndex(Node<T> node) {
+    return edgeIndex.get(node);
+  }
+
+  /**
+   * This method verify if the Graph keeps the incoming Edges of its nodes.
+   *
+   * @return True if the incoming index is kept and False when not.
+   */
+  protected boolean hasIncomingIndex() {
+    return incomingIndex != null;
+  }
+
+  /**
+   * This method gives the incoming Edges of a node keyed by source.
+   *
+   * @param node The destination Node.
+   * @return The index of the Edges or null when it is not kept.
+   */
+  protected Map<Node<T>, Edge<T>> getIncomingIndex(Node<T> node) {
+    return incomingIndex == null ? null : incomingIndex.get(node);
+  }
+
+  /**
+   * This method remove a Node and its outgoing Edges from the Adjacency Set.
+   *
+   * @param node The node to remove.
+   * @return The removed outgoing Edges.
+   */
+  protected Set<Edge<T>> removeNodeEntry(Node<T> node) {
+    Map<Node<T>, Edge<T>> outIndex = edgeIndex.remove(node);
+    if (incomingIndex != null) {
+      incomingIndex.remove(node);
+      for (Node<T> destination : outIndex.keySet()) {
+        if (!destination.equals(node)) {
+          incomingIndex.get(destination).remove(node);
+        }
+      }
+    }
+    Set<Edge<T>> removed = adjSets.remove(node);
+    nodeIndex.remove(node.getElement());
+    removeSortedEdges(removed);
+    version++;
+    return removed;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
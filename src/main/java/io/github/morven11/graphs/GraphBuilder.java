@@ -0,0 +1,163 @@
+package io.github.morven11.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This is GraphBuilder class T -> extends Comparable T, it collects nodes
+ * and edges and builds the Graph in a single pass. The edges are kept as
+ * int triples until build, where the duplicates are dropped once in
+ * O(V + E) and the storage of every node is sized from its degree.
+ * Like addEdge, the first edge between two nodes wins.
+ *
+ * @param <T> The Generic Parameter.
+ */
+public final class GraphBuilder<T extends Comparable<T>> {
+
+  private final boolean directed;
+  private final AdjacencyStorage storage;
+  private final NodeIndex<T> nodes;
+  private final EdgeList edges;
+
+  /**
+   * This is the constructor of the GraphBuilder class with the ordered storage.
+   *
+   * @param directed True to build a DirectedGraph and False for an UndirectedGraph.
+   */
+  public GraphBuilder(boolean directed) {
+    this(directed, AdjacencyStorage.ORDERED);
+  }
+
+  /**
+   * This is the constructor of the GraphBuilder class.
+   *
+   * @param directed True to build a DirectedGraph and False for an UndirectedGraph.
+   * @param storage  The storage of the built Graph.
+   */
+  public GraphBuilder(boolean directed, AdjacencyStorage storage) {
+    if (storage == null) {
+      throw new IllegalArgumentException("storage must not be null");
+    }
+    this.directed = directed;
+    this.storage = storage;
+    this.nodes = new NodeIndex<>();
+    this.edges = new EdgeList(16);
+  }
+
+  /**
+   * This method add a Node that may have no edges.
+   *
+   * @param node The node to add.
+   * @return This builder.
+   */
+  public GraphBuilder<T> addNode(Node<T> node) {
+    intern(node);
+    return this;
+  }
+
+  /**
+   * This method add an Edge.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source of the Edge.
+   * @param destination The destination of the Edge.
+   * @return This builder.
+   */
+  public GraphBuilder<T> addEdge(int weight, Node<T> source, Node<T> destination) {
+    this.edges.add(weight, intern(source), intern(destination));
+    return this;
+  }
+
+  /**
+   * This method add every Edge of a collection.
+   *
+   * @param edges The edges to add.
+   * @return This builder.
+   */
+  public GraphBuilder<T> addEdges(Collection<Edge<T>> edges) {
+    for (Edge<T> edge : edges) {
+      addEdge(edge.getWeight(), edge.getSource(), edge.getDestination());
+    }
+    return this;
+  }
+
+  /**
+   * This method add the edges of an EdgeList whose ids are
+   * positions in a list of nodes.
+   *
+   * @param edges The edges to add.
+   * @param nodes The nodes of the ids.
+   * @return This builder.
+   */
+  public GraphBuilder<T> addEdges(EdgeList edges, List<Node<T>> nodes) {
+    int[] ids = new int[nodes.size()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = intern(nodes.get(i));
+    }
+    for (int i = 0; i < edges.size(); i++) {
+      this.edges.add(edges.getWeight(i), ids[edges.getSource(i)], ids[edges.getDestination(i)]);
+    }
+    return this;
+  }
+
+  /**
+   * This method builds a new Graph with the nodes and edges added so far,
+   * the builder can still be used after.
+   *
+   * @return A DirectedGraph or an UndirectedGraph.
+   */
+  public Graph<T> build() {
+    int numNodes = this.nodes.getIdBound();
+    List<Node<T>> nodeList = new ArrayList<>(numNodes);
+    for (int id = 0; id < numNodes; id++) {
+      nodeList.add(this.nodes.getNodeById(id));
+    }
+    int[] order = groupByLowerEnd(numNodes);
+    int[] seen = new int[numNodes];
+    Arrays.fill(seen, -1);
+    EdgeList distinct = new EdgeList(this.edges.size());
+    for (int i : order) {
+      int source = this.edges.getSource(i);
+      int destination = this.edges.getDestination(i);
+      int lower = lowerEnd(source, destination);
+      int upper = lower == source ? destination : source;
+      if (seen[upper] == lower) {
+        continue;
+      }
+      seen[upper] = lower;
+      distinct.add(this.edges.getWeight(i), source, destination);
+    }
+    Graph<T> graph = this.directed
+            ? new DirectedGraph<>(this.storage) : new UndirectedGraph<>(this.storage);
+    graph.load(nodeList, distinct, !this.directed);
+    return graph;
+  }
+
+  private int intern(Node<T> node) {
+    if (node == null) {
+      throw new IllegalArgumentException("node must not be null");
+    }
+    return this.nodes.intern(node);
+  }
+
+  private int lowerEnd(int source, int destination) {
+    return this.directed ? source : Math.min(source, destination);
+  }
+
+  private int[] groupByLowerEnd(int numNodes) {
+    int[] offsets = new int[numNodes + 1];
+    for (int i = 0; i < this.edges.size(); i++) {
+      offsets[lowerEnd(this.edges.getSource(i), this.edges.getDestination(i)) + 1]++;
+    }
+    for (int node = 0; node < numNodes; node++) {
+      offsets[node + 1] += offsets[node];
+    }
+    int[] order = new int[this.edges.size()];
+    for (int i = 0; i < this.edges.size(); i++) {
+      order[offsets[lowerEnd(this.edges.getSource(i), this.edges.getDestination(i))]++] = i;
+    }
+    return order;
+  }
+}
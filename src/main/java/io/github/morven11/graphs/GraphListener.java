@@ -0,0 +1,56 @@
+package io.github.morven11.graphs;
+
+/**
+ * This is GraphListener interface T -> extends Comparable T,
+ * it is told about every change of the edges and nodes of a Graph.
+ * An undirected edge is reported once, from source to destination.
+ *
+ * @param <T> The Generic Parameter.
+ */
+public interface GraphListener<T extends Comparable<T>> {
+
+  /**
+   * This method is called after an Edge was added.
+   *
+   * @param edge The new Edge.
+   */
+  default void edgeAdded(Edge<T> edge) {
+  }
+
+  /**
+   * This method is called after an Edge was removed,
+   * also when it was removed with its node.
+   *
+   * @param edge The removed Edge.
+   */
+  default void edgeRemoved(Edge<T> edge) {
+  }
+
+  /**
+   * This method is called after the weight of an Edge was updated.
+   *
+   * @param edge      The updated Edge.
+   * @param oldWeight The weight before the update.
+   */
+  default void edgeUpdated(Edge<T> edge, int oldWeight) {
+  }
+
+  /**
+   * This method is called after a Node was removed,
+   * the removal of its edges was already reported.
+   *
+   * @param node The removed Node.
+   */
+  default void nodeRemoved(Node<T> node) {
+  }
+
+  /**
+   * This method is called after the element of a Node was updated,
+   * its edges are kept and not reported again.
+   *
+   * @param node       The updated Node, it already has the new element.
+   * @param oldElement The element before the update.
+   */
+  default void nodeUpdated(Node<T> node, T oldElement) {
+  }
+}
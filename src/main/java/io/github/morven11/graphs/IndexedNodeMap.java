@@ -0,0 +1,148 @@
+package io.github.morven11.graphs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This is IndexedNodeMap class, a map keyed by the nodes of a NodeIndex
+ * whose values are kept in an array at the id of the node.
+ *
+ * @param <T> T is the Generic Parameter.
+ * @param <V> V is the type of the values.
+ */
+final class IndexedNodeMap<T extends Comparable<T>, V> extends AbstractMap<Node<T>, V> {
+
+  private final NodeIndex<T> nodeIndex;
+  private final List<V> values;
+  private int size;
+
+  IndexedNodeMap(NodeIndex<T> nodeIndex) {
+    this.nodeIndex = nodeIndex;
+    this.values = new ArrayList<>();
+    this.size = 0;
+  }
+
+  private int idOf(Object key) {
+    if (!(key instanceof Node<?> node)) {
+      return -1;
+    }
+    @SuppressWarnings("unchecked")
+    T element = (T) node.getElement();
+    int id = this.nodeIndex.indexOf(element);
+    return id < this.values.size() ? id : -1;
+  }
+
+  @Override
+  public V get(Object key) {
+    int id = idOf(key);
+    return id < 0 ? null : this.values.get(id);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public V put(Node<T> key, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("value must not be null");
+    }
+    int id = this.nodeIndex.indexOf(key.getElement());
+    if (id < 0) {
+      throw new IllegalArgumentException("node has no id: " + key);
+    }
+    while (this.values.size() <= id) {
+      this.values.add(null);
+    }
+    V previous = this.values.set(id, value);
+    if (previous == null) {
+      this.size++;
+    }
+    return previous;
+  }
+
+  @Override
+  public V remove(Object key) {
+    int id = idOf(key);
+    if (id < 0) {
+      return null;
+    }
+    V previous = this.values.set(id, null);
+    if (previous != null) {
+      this.size--;
+    }
+    return previous;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public Set<Map.Entry<Node<T>, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Map.Entry<Node<T>, V>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return IndexedNodeMap.this.size;
+      }
+    };
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<Node<T>, V>> {
+
+    private int next = advance(0);
+    private int last = -1;
+
+    private int advance(int id) {
+      while (id < values.size() && values.get(id) == null) {
+        id++;
+      }
+      return id;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return this.next < values.size();
+    }
+
+    @Override
+    public Map.Entry<Node<T>, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      this.last = this.next;
+      this.next = advance(this.next + 1);
+      int id = this.last;
+      return new SimpleEntry<>(nodeIndex.getNodeById(id), values.get(id)) {
+        @Override
+        public V setValue(V value) {
+          super.setValue(value);
+          return values.set(id, value);
+        }
+      };
+    }
+
+    @Override
+    public void remove() {
+      if (this.last < 0) {
+        throw new IllegalStateException();
+      }
+      values.set(this.last, null);
+      size--;
+      this.last = -1;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package io.github.morven11.graphs;
+
+import java.util.Arrays;
+
+/**
+ * This is LongEdgeList class, the edges of a graph with 64 bit weights
+ * packed in primitive arrays as (weight, source, destination) triples
+ * of node ids, like EdgeList does for int weights.
+ */
+public final class LongEdgeList {
+
+  private long[] weights;
+  private int[] sources;
+  private int[] destinations;
+  private int size;
+
+  /**
+   * This is the constructor of the LongEdgeList class.
+   *
+   * @param capacity The expected number of edges.
+   */
+  public LongEdgeList(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+    }
+    this.weights = new long[capacity];
+    this.sources = new int[capacity];
+    this.destinations = new int[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * This method add an Edge at the end of the list.
+   *
+   * @param weight      The weight of the Edge.
+   * @param source      The source id of the Edge.
+   * @param destination The destination id of the Edge.
+   */
+  public void add(long weight, int source, int destination) {
+    if (this.size == this.weights.length) {
+      int capacity = Math.max(16, this.size + (this.size >> 1));
+      this.weights = Arrays.copyOf(this.weights, capacity);
+      this.sources = Arrays.copyOf(this.sources, capacity);
+      this.destinations = Arrays.copyOf(this.destinations, capacity);
+    }
+    this.weights[this.size] = weight;
+    this.sources[this.size] = source;
+    this.destinations[this.size] = destination;
+    this.size++;
+  }
+
+  /**
+   * This method add every edge of another list at the end of this one.
+   *
+   * @param other The list to copy.
+   */
+  public void addAll(LongEdgeList other) {
+    for (int i = 0; i < other.size; i++) {
+      add(other.weights[i], other.sources[i], other.destinations[i]);
+    }
+  }
+
+  /**
+   * This method remove every edge of the list, the arrays are kept.
+   */
+  public void clear() {
+    this.size = 0;
+  }
+
+  /**
+   * This method gives the number of edges in the list.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * This method gives the weight of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The weight.
+   */
+  public long getWeight(int index) {
+    return this.weights[index];
+  }
+
+  /**
+   * This method gives the source id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The source id.
+   */
+  public int getSource(int index) {
+    return this.sources[index];
+  }
+
+  /**
+   * This method gives the destination id of an Edge.
+   *
+   * @param index The position of the Edge.
+   * @return The destination id.
+   */
+  public int getDestination(int index) {
+    return this.destinations[index];
+  }
+
+  /**
+   * This method sort the edges by weight, edges with the same weight
+   * keep their order. The weights are moved above the minimum so the
+   * radix sort only runs the passes needed by their range.
+   */
+  public void sortByWeight() {
+    if (this.size < 2) {
+      return;
+    }
+    long min = Long.MAX_VALUE;
+    for (int i = 0; i < this.size; i++) {
+      min = Math.min(min, this.weights[i]);
+    }
+    long[] keys = new long[this.size];
+    for (int i = 0; i < this.size; i++) {
+      // the difference may not fit in a long, but it is right as unsigned
+      keys[i] = this.weights[i] - min;
+    }
+    int[] order = RadixOrder.sort(keys, this.size);
+    long[] sortedWeights = new long[this.weights.length];
+    int[] sortedSources = new int[this.sources.length];
+    int[] sortedDestinations = new int[this.destinations.length];
+    for (int i = 0; i < this.size; i++) {
+      sortedWeights[i] = this.weights[order[i]];
+      sortedSources[i] = this.sources[order[i]];
+      sortedDestinations[i] = this.destinations[order[i]];
+    }
+    this.weights = sortedWeights;
+    this.sources = sortedSources;
+    this.destinations = sortedDestinations;
+  }
+}
@@ -44,6 +44,9 @@ public class Node<T extends Comparable<T>> implements Comparable<Node<T>> {
 
   @Override
   public boolean equals(Object object) {
+    if (object == this) {
+      return true;
+    }
     if (object == null) {
       return false;
     }
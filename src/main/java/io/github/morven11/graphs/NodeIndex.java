@@ -0,0 +1,124 @@
+package io.github.morven11.graphs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is NodeIndex class T -> extends Comparable T, a hash based table that
+ * gives every node a stable int id. The ids start at 0 and are never reused,
+ * so a removed node leaves a hole in [0, getIdBound()).
+ *
+ * @param <T> The Generic Parameter.
+ */
+public final class NodeIndex<T extends Comparable<T>> {
+
+  private final Map<T, Integer> ids;
+  private final List<Node<T>> nodes;
+
+  /**
+   * This is the constructor of the NodeIndex class.
+   */
+  public NodeIndex() {
+    this.ids = new HashMap<>();
+    this.nodes = new ArrayList<>();
+  }
+
+  /**
+   * This method gives the id of a node, the node gets a new id when
+   * its element has none.
+   *
+   * @param node The node.
+   * @return The id of the node.
+   */
+  public int intern(Node<T> node) {
+    Integer id = this.ids.get(node.getElement());
+    if (id != null) {
+      return id;
+    }
+    id = this.nodes.size();
+    this.ids.put(node.getElement(), id);
+    this.nodes.add(node);
+    return id;
+  }
+
+  /**
+   * This method gives the id of an element.
+   *
+   * @param element The element of the node.
+   * @return The id or -1 when the element has no id.
+   */
+  public int indexOf(T element) {
+    Integer id = this.ids.get(element);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * This method gives the Node of an id.
+   *
+   * @param id The id.
+   * @return The node or null when the id was removed.
+   */
+  public Node<T> getNodeById(int id) {
+    return this.nodes.get(id);
+  }
+
+  /**
+   * This method gives the Node of an element.
+   *
+   * @param element The element of the node.
+   * @return The node or null when the element has no id.
+   */
+  public Node<T> getNode(T element) {
+    Integer id = this.ids.get(element);
+    return id == null ? null : this.nodes.get(id);
+  }
+
+  /**
+   * This method remove the id of an element.
+   *
+   * @param element The element of the node.
+   * @return The removed id or -1 when the element had no id.
+   */
+  public int remove(T element) {
+    Integer id = this.ids.remove(element);
+    if (id == null) {
+      return -1;
+    }
+    this.nodes.set(id, null);
+    return id;
+  }
+
+  /**
+   * This method moves the id of an element to a new element,
+   * it must be called before the element of the node changes.
+   *
+   * @param element    The current element.
+   * @param newElement The new element.
+   */
+  public void rename(T element, T newElement) {
+    Integer id = this.ids.remove(element);
+    if (id != null) {
+      this.ids.put(newElement, id);
+    }
+  }
+
+  /**
+   * This method gives the number of elements with an id.
+   *
+   * @return The size.
+   */
+  public int size() {
+    return this.ids.size();
+  }
+
+  /**
+   * This method gives a bound of the ids, every id is smaller than it.
+   *
+   * @return The bound.
+   */
+  public int getIdBound() {
+    return this.nodes.size();
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.morven11.graphs;
+
+import java.util.Arrays;
+
+/**
+ * This is RadixOrder class, a stable LSD radix sort of unsigned long keys
+ * that gives the order of the positions instead of moving the values, so
+ * the edge lists with long and double weights can share it.
+ */
+final class RadixOrder {
+
+  private static final int RADIX_BITS = 8;
+  private static final int RADIX = 1 << RADIX_BITS;
+
+  private RadixOrder() {
+  }
+
+  /**
+   * This method gives the positions of the keys in ascending unsigned order,
+   * positions with the same key keep their order. Only the passes needed
+   * by the highest bit of the keys are run.
+   *
+   * @param keys The keys, the array is used as a buffer by the passes.
+   * @param size The number of keys to sort.
+   * @return The sorted positions.
+   */
+  static int[] sort(long[] keys, int size) {
+    int[] order = new int[size];
+    long bits = 0;
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+      bits |= keys[i];
+    }
+    long[] keysBuffer = new long[size];
+    int[] orderBuffer = new int[size];
+    int[] counts = new int[RADIX];
+    for (int shift = 0; shift < Long.SIZE && (bits >>> shift) != 0; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < size; i++) {
+        counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+      }
+      int position = 0;
+      for (int digit = 0; digit < RADIX; digit++) {
+        int count = counts[digit];
+        counts[digit] = position;
+        position += count;
+      }
+      for (int i = 0; i < size; i++) {
+        int target = counts[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+        keysBuffer[target] = keys[i];
+        orderBuffer[target] = order[i];
+      }
+      long[] swapKeys = keys;
+      keys = keysBuffer;
+      keysBuffer = swapKeys;
+      int[] swap = order;
+      order = orderBuffer;
+      orderBuffer = swap;
+    }
+    return order;
+  }
+}
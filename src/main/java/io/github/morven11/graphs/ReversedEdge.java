@@ -0,0 +1,43 @@
+package io.github.morven11.graphs;
+
+/**
+ * This is ReversedEdge class, a view of an Edge from its destination.
+ * It keeps no state of its own, so a change of the weight of either
+ * of them is seen by both.
+ *
+ * @param <T> The generic parameter.
+ */
+final class ReversedEdge<T extends Comparable<T>> extends Edge<T> {
+
+  private final Edge<T> edge;
+
+  ReversedEdge(Edge<T> edge) {
+    super(null, null, null);
+    this.edge = edge;
+  }
+
+  @Override
+  public Integer getWeight() {
+    return this.edge.getWeight();
+  }
+
+  @Override
+  public void setWeight(Integer weight) {
+    this.edge.setWeight(weight);
+  }
+
+  @Override
+  public Node<T> getSource() {
+    return this.edge.getDestination();
+  }
+
+  @Override
+  public Node<T> getDestination() {
+    return this.edge.getSource();
+  }
+
+  @Override
+  public Edge<T> reversed() {
+    return this.edge;
+  }
+}
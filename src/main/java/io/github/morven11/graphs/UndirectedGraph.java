@@ -1,10 +1,16 @@
 package io.github.morven11.graphs;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
  * This is UndirectedGraph class T -> extends Comparable T and
- * UndirectedGraph extends Graph T.
+ * UndirectedGraph extends Graph T. Every Edge is kept once with its ends
+ * in order and shared by both ends, getEdgesNode gives it as seen from
+ * the node.
  *
  * @param <T> The Generic Parameter.
  */
@@ -17,65 +23,92 @@ public class UndirectedGraph<T extends Comparable<T>> extends Graph<T> {
     super();
   }
 
+  /**
+   * This is the constructor of the UndirectedGraph with a given storage.
+   *
+   * @param storage The storage of the nodes and edges.
+   */
+  public UndirectedGraph(AdjacencyStorage storage) {
+    super(storage);
+  }
+
+  @Override
+  public boolean isDirected() {
+    return false;
+  }
+
+  @Override
+  public Set<Edge<T>> getEdgesNode(Node<T> node) {
+    Set<Edge<T>> edges = getAdjSets().get(node);
+    return edges == null ? null : new OrientedEdges<>(node, edges);
+  }
+
   @Override
-  public boolean addEdge(Integer weight, Node<T> source, Node<T> destination) {
+  public boolean addEdge(int weight, Node<T> source, Node<T> destination) {
     addNode(source);
     addNode(destination);
-    if (!addEdgeFromTo(weight, source, destination)
-            || !addEdgeFromTo(weight, destination, source)) {
+    if (!addEdgeBetween(weight, source, destination)) {
       return false;
     }
     super.increaseNumEdges();
+    if (super.hasListeners()) {
+      super.fireEdgeAdded(super.getEdge(weight, source, destination));
+    }
     return true;
   }
 
   @Override
-  public boolean removeEdge(Integer weight, Node<T> source, Node<T> destination) {
-    Edge<T> e1 = new Edge<>(weight, source, destination);
-    Edge<T> e2 = new Edge<>(weight, destination, source);
-    boolean result1 = false;
-    boolean result2 = false;
-    for (Node<T> node : super.getAllNodes()) {
-      Set<Edge<T>> edges = super.getEdgesNode(node);
-      boolean containsE1 = edges.stream().anyMatch(e -> e.equals(e1));
-      if (!result1 && containsE1) {
-        result1 = edges.removeIf(e -> e.equals(e1));
-      }
-      boolean containsE2 = edges.stream().anyMatch(e -> e.equals(e2));
-      if (!result2 && containsE2) {
-        result2 = edges.removeIf(e -> e.equals(e2));
-      }
-      if (result1 && result2) {
-        super.decreaseNumEdges();
-        return true;
-      }
+  public boolean removeEdge(int weight, Node<T> source, Node<T> destination) {
+    Edge<T> removed = super.removeEdgeBetween(weight, source, destination);
+    if (removed == null) {
+      return false;
     }
-    return false;
+    super.decreaseNumEdges();
+    if (super.hasListeners()) {
+      super.fireEdgeRemoved(orient(removed, source));
+    }
+    return true;
   }
 
   @Override
-  public boolean updateEdge(Integer weight, Node<T> source, Node<T> destination, int newWeight) {
-    Edge<T> e1 = new Edge<>(weight, source, destination);
-    Edge<T> e2 = new Edge<>(weight, destination, source);
-    boolean result1 = false;
-    boolean result2 = false;
-    for (Node<T> current : super.getAllNodes()) {
-      Set<Edge<T>> edges = super.getEdgesNode(current);
-      boolean containsE1 = edges.stream().anyMatch(e -> e.equals(e1));
-      if (!result1 && containsE1) {
-        edges.stream().filter(e -> e.equals(e1)).findFirst().orElseThrow().setWeight(newWeight);
-        result1 = true;
-      }
-      boolean containsE2 = edges.stream().anyMatch(e -> e.equals(e2));
-      if (!result2 && containsE2) {
-        edges.stream().filter(e -> e.equals(e2)).findFirst().orElseThrow().setWeight(newWeight);
-        result2 = true;
-      }
-      if (result1 && result2) {
-        return true;
-      }
+  public boolean updateEdge(int weight, Node<T> source, Node<T> destination, int newWeight) {
+    Edge<T> updated = super.updateEdgeBetween(weight, source, destination, newWeight);
+    if (updated == null) {
+      return false;
     }
-    return false;
+    if (super.hasListeners()) {
+      super.fireEdgeUpdated(orient(updated, source), weight);
+    }
+    return true;
+  }
+
+  @Override
+  public boolean updateNode(Node<T> node, T newElement) {
+    if (node == null) {
+      return false;
+    }
+    Node<T> stored = super.getNode(node.getElement());
+    if (stored == null || stored.getElement().equals(newElement)
+            || super.getNode(newElement) != null) {
+      return super.updateNode(node, newElement);
+    }
+    List<Edge<T>> incident = new ArrayList<>(getAdjSets().get(stored));
+    List<Node<T>> others = new ArrayList<>(incident.size());
+    for (Edge<T> edge : incident) {
+      Node<T> other = orient(edge, stored).getDestination();
+      others.add(other.equals(stored) ? null : other);
+      super.removeEdgeBetween(edge.getWeight(), edge.getSource(), edge.getDestination());
+    }
+    T oldElement = stored.getElement();
+    super.renameNode(stored, newElement);
+    for (int i = 0; i < incident.size(); i++) {
+      Node<T> other = others.get(i) == null ? stored : others.get(i);
+      super.addEdgeBetween(incident.get(i).getWeight(), stored, other);
+    }
+    if (super.hasListeners()) {
+      super.fireNodeUpdated(stored, oldElement);
+    }
+    return true;
   }
 
   @Override
@@ -83,24 +116,67 @@ public class UndirectedGraph<T extends Comparable<T>> extends Graph<T> {
     if (!super.containsNode(node)) {
       return false;
     }
-    int count = 0;
-    for (Node<T> source : super.getAllNodes()) {
-      if (!source.equals(node)) {
-        continue;
-      }
-      Set<Edge<T>> edges = this.getEdgesNode(source);
-      count = edges.size();
-      for (Edge<T> edge : edges) {
-        Integer weight = edge.getWeight();
-        Node<T> destination = edge.getDestination();
-        Edge<T> imageEdge = new Edge<>(weight, destination, source);
-        super.getEdgesNode(destination).remove(imageEdge);
-        super.getAdjSets().get(destination).remove(imageEdge);
-      }
+    List<Edge<T>> removed = new ArrayList<>(getAdjSets().get(node));
+    for (Edge<T> edge : removed) {
+      super.removeEdgeBetween(edge.getWeight(), edge.getSource(), edge.getDestination());
     }
-    super.getAdjSets().remove(node);
-    super.decreaseAnAmountNumEdges(count);
+    super.removeNodeEntry(node);
+    super.decreaseAnAmountNumEdges(removed.size());
     super.decreaseNumNodes();
+    for (Edge<T> edge : removed) {
+      super.fireEdgeRemoved(orient(edge, node));
+    }
+    super.fireNodeRemoved(node);
     return true;
   }
+
+  private static <T extends Comparable<T>> Edge<T> orient(Edge<T> edge, Node<T> node) {
+    return edge.getSource().equals(node) ? edge : edge.reversed();
+  }
+
+  /**
+   * This is the view of the Edges of a node, every Edge is
+   * seen from the node so the node is always its source.
+   */
+  private static final class OrientedEdges<T extends Comparable<T>> extends AbstractSet<Edge<T>> {
+
+    private final Node<T> node;
+    private final Set<Edge<T>> edges;
+
+    private OrientedEdges(Node<T> node, Set<Edge<T>> edges) {
+      this.node = node;
+      this.edges = edges;
+    }
+
+    @Override
+    public Iterator<Edge<T>> iterator() {
+      Iterator<Edge<T>> iterator = this.edges.iterator();
+      return new Iterator<>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Edge<T> next() {
+          return orient(iterator.next(), node);
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return this.edges.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object object) {
+      if (!(object instanceof Edge<?> edge) || !this.node.equals(edge.getSource())) {
+        return false;
+      }
+      Edge<T> candidate = (Edge<T>) edge;
+      return this.edges.contains(candidate) || this.edges.contains(candidate.reversed());
+    }
+  }
 }
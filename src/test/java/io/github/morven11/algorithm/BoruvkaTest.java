@@ -0,0 +1,87 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class BoruvkaTest {
+
+  private static long[] sortedTriples(EdgeList edges) {
+    long[] triples = new long[edges.size()];
+    for (int i = 0; i < edges.size(); i++) {
+      int low = Math.min(edges.getSource(i), edges.getDestination(i));
+      int high = Math.max(edges.getSource(i), edges.getDestination(i));
+      triples[i] = ((long) edges.getWeight(i) << 40) | ((long) low << 20) | high;
+    }
+    Arrays.sort(triples);
+    return triples;
+  }
+
+  @Test
+  void testTiesBrokenByEdgePosition() {
+    Graph<Integer> grid = new UndirectedGraph<>();
+    int side = 30;
+    for (int row = 0; row < side; row++) {
+      for (int column = 0; column < side; column++) {
+        Node<Integer> node = new Node<>(row * side + column);
+        if (column + 1 < side) {
+          grid.addEdge(1, node, new Node<>(row * side + column + 1));
+        }
+        if (row + 1 < side) {
+          grid.addEdge(1, node, new Node<>((row + 1) * side + column));
+        }
+      }
+    }
+    CsrGraph<Integer> graph = new CsrGraph<>(grid);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      EdgeList tree = new Boruvka(pool).compute(graph);
+      assertEquals(side * side - 1, tree.size());
+      assertEquals(Arrays.toString(sortedTriples(new Kruskal().compute(graph))),
+              Arrays.toString(sortedTriples(tree)));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testSameTreeOrderOnEveryPool() {
+    Random random = new Random(42);
+    Graph<Integer> randomGraph = new UndirectedGraph<>();
+    int numNodes = 5000;
+    for (int i = 1; i < numNodes; i++) {
+      randomGraph.addEdge(random.nextInt(100), new Node<>(i), new Node<>(random.nextInt(i)));
+    }
+    for (int i = 0; i < 20000; i++) {
+      int source = random.nextInt(numNodes);
+      int destination = random.nextInt(numNodes);
+      randomGraph.addEdge(random.nextInt(100), new Node<>(source), new Node<>(destination));
+    }
+    CsrGraph<Integer> graph = new CsrGraph<>(randomGraph);
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool parallel = new ForkJoinPool(4);
+    try {
+      EdgeList expected = new Boruvka(single).compute(graph);
+      for (int run = 0; run < 3; run++) {
+        EdgeList tree = new Boruvka(parallel).compute(graph);
+        assertEquals(expected.size(), tree.size());
+        for (int i = 0; i < tree.size(); i++) {
+          assertEquals(expected.getWeight(i), tree.getWeight(i));
+          assertEquals(expected.getSource(i), tree.getSource(i));
+          assertEquals(expected.getDestination(i), tree.getDestination(i));
+        }
+      }
+    } finally {
+      single.shutdown();
+      parallel.shutdown();
+    }
+  }
+}
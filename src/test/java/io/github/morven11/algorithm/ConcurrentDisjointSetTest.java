@@ -0,0 +1,81 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDisjointSetTest {
+
+  private static ConcurrentDisjointSet subsets;
+
+  @BeforeEach
+  void setup() {
+    subsets = new ConcurrentDisjointSet(6, 42);
+    assertTrue(subsets.union(0, 1));
+    assertTrue(subsets.union(2, 3));
+    assertTrue(subsets.union(1, 3));
+  }
+
+  @Test
+  void testUnion() {
+    assertEquals(6, subsets.size());
+    assertEquals(3, subsets.getNumSets());
+    assertFalse(subsets.union(0, 2));
+    assertTrue(subsets.union(4, 5));
+    assertEquals(2, subsets.getNumSets());
+  }
+
+  @Test
+  void testConnected() {
+    assertTrue(subsets.connected(0, 3));
+    assertEquals(subsets.find(0), subsets.find(2));
+    assertFalse(subsets.connected(0, 4));
+  }
+
+  @Test
+  void testManyThreads() throws InterruptedException {
+    int size = 200_000;
+    int[][] pairs = new int[size][2];
+    Random random = new Random(11);
+    for (int[] pair : pairs) {
+      pair[0] = random.nextInt(size);
+      pair[1] = random.nextInt(size);
+    }
+    DisjointSet expected = new DisjointSet(size);
+    for (int[] pair : pairs) {
+      expected.union(pair[0], pair[1]);
+    }
+    ConcurrentDisjointSet shared = new ConcurrentDisjointSet(size);
+    AtomicInteger joined = new AtomicInteger();
+    int numThreads = 8;
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int first = t;
+      threads.add(new Thread(() -> {
+        for (int i = first; i < size; i += numThreads) {
+          if (shared.union(pairs[i][0], pairs[i][1])) {
+            joined.incrementAndGet();
+          }
+        }
+      }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(expected.getNumSets(), shared.getNumSets());
+    assertEquals(size - expected.getNumSets(), joined.get());
+    for (int id = 0; id < size; id += 97) {
+      assertEquals(expected.connected(0, id), shared.connected(0, id));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DisjointSetTest {
+
+  private static DisjointSet subsets;
+
+  @BeforeEach
+  void setup() {
+    subsets = new DisjointSet(6);
+    assertTrue(subsets.union(0, 1));
+    assertTrue(subsets.union(2, 3));
+    assertTrue(subsets.union(1, 3));
+  }
+
+  @Test
+  void testNumberOfSets() {
+    assertEquals(6, subsets.size());
+    assertEquals(3, subsets.getNumSets());
+  }
+
+  @Test
+  void testUnion() {
+    assertFalse(subsets.union(0, 2));
+    assertTrue(subsets.union(4, 5));
+    assertEquals(2, subsets.getNumSets());
+  }
+
+  @Test
+  void testConnected() {
+    assertTrue(subsets.connected(0, 3));
+    assertEquals(subsets.find(0), subsets.find(2));
+    assertFalse(subsets.connected(0, 4));
+  }
+
+  @Test
+  void testLongChain() {
+    DisjointSet chain = new DisjointSet(1_000_000);
+    for (int id = 1; id < chain.size(); id++) {
+      chain.union(id - 1, id);
+    }
+    assertEquals(1, chain.getNumSets());
+    assertTrue(chain.connected(0, chain.size() - 1));
+  }
+}
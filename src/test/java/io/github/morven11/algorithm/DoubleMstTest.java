@@ -0,0 +1,38 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.DoubleEdgeList;
+import org.junit.jupiter.api.Test;
+
+class DoubleMstTest {
+
+  @Test
+  void testFractionalWeights() {
+    DoubleEdgeList edges = new DoubleEdgeList(0);
+    edges.add(0.25, 0, 1);
+    edges.add(1.5, 1, 2);
+    edges.add(0.75, 0, 2);
+    edges.add(-0.125, 2, 3);
+    DoubleMst mst = new DoubleMst(edges, 4);
+    assertTrue(mst.isSpanningTree());
+    assertEquals(0.875, mst.getMinimumCost());
+    assertEquals(3, mst.getTreeEdges().size());
+    mst.getTreeEdges().clear();
+    assertEquals(3, mst.getTreeEdges().size());
+  }
+
+  @Test
+  void testCompensatedCost() {
+    // a plain sum drops every 1.0 added to -1e16
+    int numNodes = 1002;
+    DoubleEdgeList edges = new DoubleEdgeList(numNodes - 1);
+    edges.add(-1e16, 0, 1);
+    for (int node = 2; node < numNodes; node++) {
+      edges.add(1.0, node - 1, node);
+    }
+    DoubleMst mst = new DoubleMst(edges, numNodes);
+    assertEquals(-1e16 + 1000, mst.getMinimumCost());
+  }
+}
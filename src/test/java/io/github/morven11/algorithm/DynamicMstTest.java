@@ -0,0 +1,142 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DynamicMstTest {
+
+  private static final Node<Integer> node1 = new Node<>(1);
+  private static final Node<Integer> node2 = new Node<>(2);
+  private static final Node<Integer> node3 = new Node<>(3);
+  private static final Node<Integer> node4 = new Node<>(4);
+  private static final Node<Integer> node5 = new Node<>(5);
+  private static final Node<Integer> node6 = new Node<>(6);
+  private static Graph<Integer> graph;
+  private static DynamicMst<Integer> dynamicMst;
+
+  @BeforeEach
+  void setup() {
+    graph = new UndirectedGraph<>();
+    assertTrue(graph.addEdge(3, node1, node2));
+    assertTrue(graph.addEdge(5, node1, node5));
+    assertTrue(graph.addEdge(2, node5, node6));
+    assertTrue(graph.addEdge(7, node6, node4));
+    assertTrue(graph.addEdge(9, node4, node3));
+    assertTrue(graph.addEdge(5, node2, node3));
+    assertTrue(graph.addEdge(6, node2, node5));
+    assertTrue(graph.addEdge(3, node3, node6));
+    dynamicMst = new DynamicMst<>(graph);
+  }
+
+  @Test
+  void testInitialTree() {
+    assertEquals(20, dynamicMst.getMinimumCost());
+    assertTrue(dynamicMst.isSpanningTree());
+    assertEquals(new Mst<>(graph).getGraph(), dynamicMst.getGraph());
+  }
+
+  @Test
+  void testAddEdge() {
+    assertTrue(graph.addEdge(1, node4, node1));
+    assertEquals(14, dynamicMst.getMinimumCost());
+    assertEquals(new Mst<>(graph).getMinimumCost(), dynamicMst.getMinimumCost());
+  }
+
+  @Test
+  void testRemoveAndUpdateEdge() {
+    assertTrue(graph.removeEdge(2, node5, node6));
+    assertEquals(new Mst<>(graph).getMinimumCost(), dynamicMst.getMinimumCost());
+    assertTrue(graph.updateEdge(7, node6, node4, 1));
+    assertEquals(new Mst<>(graph).getMinimumCost(), dynamicMst.getMinimumCost());
+    assertTrue(graph.updateEdge(3, node1, node2, 50));
+    assertEquals(new Mst<>(graph).getMinimumCost(), dynamicMst.getMinimumCost());
+  }
+
+  @Test
+  void testUpdateEdgeBothWays() {
+    assertTrue(graph.updateEdge(3, node1, node2, 1));
+    assertEquals(18, dynamicMst.getMinimumCost());
+    assertTrue(graph.updateEdge(9, node4, node3, 20));
+    assertEquals(18, dynamicMst.getMinimumCost());
+    assertTrue(graph.updateEdge(6, node2, node5, 1));
+    assertEquals(new Mst<>(graph).getMinimumCost(), dynamicMst.getMinimumCost());
+    assertTrue(graph.updateEdge(2, node5, node6, 30));
+    assertEquals(new Mst<>(graph).getMinimumCost(), dynamicMst.getMinimumCost());
+    assertEquals(new Mst<>(graph).getGraph(), dynamicMst.getGraph());
+  }
+
+  @Test
+  void testRemoveNode() {
+    assertTrue(graph.removeNode(node4));
+    assertEquals(13, dynamicMst.getMinimumCost());
+    assertTrue(dynamicMst.isSpanningTree());
+    assertTrue(graph.removeEdge(5, node1, node5));
+    assertTrue(graph.removeEdge(6, node2, node5));
+    assertTrue(graph.removeEdge(2, node5, node6));
+    assertEquals(11, dynamicMst.getMinimumCost());
+    assertFalse(dynamicMst.isSpanningTree());
+  }
+
+  @Test
+  void testUpdateNode() {
+    Graph<String> triangle = new UndirectedGraph<>();
+    Node<String> a = new Node<>("a");
+    Node<String> b = new Node<>("b");
+    Node<String> c = new Node<>("c");
+    triangle.addEdge(1, a, b);
+    triangle.addEdge(2, b, c);
+    triangle.addEdge(10, a, c);
+    DynamicMst<String> followed = new DynamicMst<>(triangle);
+    assertTrue(triangle.updateNode(a, "q"));
+    Node<String> q = new Node<>("q");
+    assertEquals(new Mst<>(triangle).getGraph(), followed.getGraph());
+    assertTrue(triangle.removeEdge(1, q, b));
+    assertEquals(12, followed.getMinimumCost());
+    assertEquals(new Mst<>(triangle).getMinimumCost(), followed.getMinimumCost());
+    assertTrue(triangle.updateNode(c, "z"));
+    assertTrue(triangle.removeEdge(10, q, new Node<>("z")));
+    assertEquals(2, followed.getMinimumCost());
+    assertFalse(followed.isSpanningTree());
+  }
+
+  @Test
+  void testRandomChanges() {
+    Random random = new Random(3);
+    List<Node<Integer>> nodes = new ArrayList<>();
+    for (int i = 10; i < 40; i++) {
+      nodes.add(new Node<>(i));
+    }
+    for (int i = 0; i < 300; i++) {
+      Node<Integer> source = nodes.get(random.nextInt(nodes.size()));
+      Node<Integer> destination = nodes.get(random.nextInt(nodes.size()));
+      int weight = random.nextInt(50);
+      if (source.equals(destination) || graph.getNode(source.getElement()) != null
+              && graph.getEdgesNode(source).stream()
+              .anyMatch(e -> e.getDestination().equals(destination))) {
+        continue;
+      }
+      graph.addEdge(weight, source, destination);
+      if (i % 3 == 0) {
+        graph.updateEdge(weight, source, destination, random.nextInt(50));
+      }
+      if (i % 5 == 0) {
+        graph.removeEdge(graph.getEdgesNode(source).iterator().next().getWeight(),
+                source, graph.getEdgesNode(source).iterator().next().getDestination());
+      }
+      Mst<Integer> expected = new Mst<>(graph);
+      if (expected.getGraph() != null) {
+        assertEquals(expected.getMinimumCost(), dynamicMst.getMinimumCost());
+      }
+    }
+  }
+}
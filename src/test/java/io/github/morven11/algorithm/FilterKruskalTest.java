@@ -0,0 +1,37 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class FilterKruskalTest {
+
+  @Test
+  void testEqualWeightsAbovePivotSize() {
+    Random random = new Random(42);
+    Graph<Integer> sameWeights = new UndirectedGraph<>();
+    int numNodes = 3000;
+    for (int i = 1; i < numNodes; i++) {
+      sameWeights.addEdge(5, new Node<>(i), new Node<>(random.nextInt(i)));
+    }
+    for (int i = 0; i < 20000; i++) {
+      sameWeights.addEdge(5, new Node<>(random.nextInt(numNodes)),
+              new Node<>(random.nextInt(numNodes)));
+    }
+    CsrGraph<Integer> graph = new CsrGraph<>(sameWeights);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Mst<Integer> mst = new Mst<>(graph, new FilterKruskal(pool));
+      assertEquals(5 * (numNodes - 1), mst.getMinimumCost());
+      assertEquals(numNodes - 1, mst.getGraph().getNumEdges());
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.LongEdgeList;
+import org.junit.jupiter.api.Test;
+
+class LongMstTest {
+
+  @Test
+  void testSixtyFourBitWeights() {
+    long big = 1L << 40;
+    LongEdgeList edges = new LongEdgeList(0);
+    edges.add(3 * big, 0, 1);
+    edges.add(big, 1, 2);
+    edges.add(2 * big, 0, 2);
+    edges.add(5 * big, 2, 3);
+    LongMst mst = new LongMst(edges, 4);
+    assertTrue(mst.isSpanningTree());
+    assertEquals(8 * big, mst.getMinimumCost());
+    assertEquals(3, mst.getTreeEdges().size());
+    mst.getTreeEdges().clear();
+    assertEquals(3, mst.getTreeEdges().size());
+    assertEquals(3 * big, edges.getWeight(0));
+  }
+
+  @Test
+  void testForestAndOverflow() {
+    LongEdgeList edges = new LongEdgeList(0);
+    edges.add(7, 0, 1);
+    LongMst forest = new LongMst(edges, 3);
+    assertFalse(forest.isSpanningTree());
+    assertEquals(7, forest.getMinimumCost());
+    edges.add(Long.MAX_VALUE, 1, 2);
+    assertThrows(ArithmeticException.class, () -> new LongMst(edges, 3));
+  }
+}
@@ -0,0 +1,96 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class MinimumSpanningForestTest {
+
+  @Test
+  void testTreePerComponent() {
+    Graph<String> graph = new UndirectedGraph<>();
+    graph.addEdge(4, new Node<>("A"), new Node<>("B"));
+    graph.addEdge(1, new Node<>("B"), new Node<>("C"));
+    graph.addEdge(2, new Node<>("A"), new Node<>("C"));
+    graph.addEdge(7, new Node<>("D"), new Node<>("E"));
+    graph.addNode(new Node<>("F"));
+    MinimumSpanningForest<String> forest = new MinimumSpanningForest<>(graph);
+    assertEquals(3, forest.getNumComponents());
+    assertFalse(forest.isSpanningTree());
+    assertEquals(10, forest.getMinimumCost());
+    int abc = forest.getComponent(new Node<>("A"));
+    int de = forest.getComponent(new Node<>("E"));
+    int f = forest.getComponent(new Node<>("F"));
+    assertEquals(abc, forest.getComponent(new Node<>("C")));
+    assertEquals(3, forest.getMinimumCost(abc));
+    assertEquals(7, forest.getMinimumCost(de));
+    assertEquals(0, forest.getMinimumCost(f));
+    assertEquals(3, forest.getComponentSize(abc));
+    assertEquals(3, forest.getTree(abc).getNumNodes());
+    assertEquals(2, forest.getTree(abc).getNumEdges());
+    assertEquals(1, forest.getTree(f).getNumNodes());
+    assertEquals(6, forest.getGraph().getNumNodes());
+    assertEquals(3, forest.getGraph().getNumEdges());
+    assertEquals(-1, forest.getComponent(new Node<>("Z")));
+    forest.getTreeEdges(abc).add(0, 0, 5);
+    assertEquals(2, forest.getTreeEdges(abc).size());
+    assertEquals(3, forest.getGraph().getNumEdges());
+  }
+
+  @Test
+  void testSameCostAsKruskal() {
+    Random random = new Random(7);
+    Graph<Integer> graph = new UndirectedGraph<>();
+    int numNodes = 5000;
+    for (int i = 0; i < numNodes; i++) {
+      graph.addNode(new Node<>(i));
+    }
+    for (int i = 0; i < 6000; i++) {
+      int source = random.nextInt(numNodes);
+      int destination = random.nextInt(numNodes);
+      graph.addEdge(random.nextInt(100), new Node<>(source), new Node<>(destination));
+    }
+    CsrGraph<Integer> csr = new CsrGraph<>(graph);
+    EdgeList expected = new Kruskal().compute(csr);
+    int expectedCost = 0;
+    for (int i = 0; i < expected.size(); i++) {
+      expectedCost += expected.getWeight(i);
+    }
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      MinimumSpanningForest<Integer> forest = new MinimumSpanningForest<>(csr, pool);
+      assertEquals(expectedCost, forest.getMinimumCost());
+      assertEquals(numNodes - expected.size(), forest.getNumComponents());
+      int treeEdges = 0;
+      for (int component = 0; component < forest.getNumComponents(); component++) {
+        treeEdges += forest.getTreeEdges(component).size();
+        assertEquals(forest.getComponentSize(component) - 1,
+                forest.getTreeEdges(component).size());
+      }
+      assertEquals(expected.size(), treeEdges);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testLongPath() {
+    Graph<Integer> graph = new UndirectedGraph<>();
+    int numNodes = 20000;
+    for (int i = numNodes - 1; i > 0; i--) {
+      graph.addEdge(1, new Node<>(i), new Node<>(i - 1));
+    }
+    MinimumSpanningForest<Integer> forest = new MinimumSpanningForest<>(graph);
+    assertTrue(forest.isSpanningTree());
+    assertEquals(numNodes - 1, forest.getMinimumCost());
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MstAlgorithmTest {
+
+  private static CsrGraph<Integer> sparseGraph;
+  private static CsrGraph<Integer> denseGraph;
+
+  @BeforeEach
+  void setup() {
+    Random random = new Random(42);
+    Graph<Integer> randomGraph = new UndirectedGraph<>();
+    int numNodes = 2000;
+    for (int i = 1; i < numNodes; i++) {
+      randomGraph.addEdge(random.nextInt(1000), new Node<>(i), new Node<>(random.nextInt(i)));
+    }
+    for (int i = 0; i < 40000; i++) {
+      int source = random.nextInt(numNodes);
+      int destination = random.nextInt(numNodes);
+      randomGraph.addEdge(random.nextInt(1000), new Node<>(source), new Node<>(destination));
+    }
+    sparseGraph = new CsrGraph<>(randomGraph);
+    Graph<Integer> completeGraph = new UndirectedGraph<>();
+    for (int source = 0; source < 150; source++) {
+      for (int destination = source + 1; destination < 150; destination++) {
+        completeGraph.addEdge(random.nextInt(10_000), new Node<>(source), new Node<>(destination));
+      }
+    }
+    denseGraph = new CsrGraph<>(completeGraph);
+  }
+
+  private static List<MstAlgorithm> engines(ForkJoinPool pool) {
+    List<MstAlgorithm> engines = new ArrayList<>();
+    engines.add(new FilterKruskal(pool));
+    engines.add(new Boruvka(pool));
+    for (int arity = 2; arity <= 8; arity *= 2) {
+      engines.add(new Prim(arity));
+    }
+    return engines;
+  }
+
+  private static void assertSameAsKruskal(CsrGraph<Integer> graph) {
+    Mst<Integer> expected = new Mst<>(graph, new Kruskal());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (MstAlgorithm engine : engines(pool)) {
+        Mst<Integer> mst = new Mst<>(graph, engine);
+        assertEquals(expected.getMinimumCost(), mst.getMinimumCost(), engine.getClass().getSimpleName());
+        assertEquals(graph.getNumNodes() - 1, mst.getGraph().getNumEdges());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void testSparseGraphSameCostAsKruskal() {
+    assertSameAsKruskal(sparseGraph);
+  }
+
+  @Test
+  void testDenseGraphSameCostAsKruskal() {
+    assertSameAsKruskal(denseGraph);
+  }
+
+  @Test
+  void testDisconnectedGraph() {
+    Graph<Integer> disconnected = new UndirectedGraph<>();
+    disconnected.addEdge(1, new Node<>(1), new Node<>(2));
+    disconnected.addEdge(1, new Node<>(3), new Node<>(4));
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      for (MstAlgorithm engine : engines(pool)) {
+        assertNull(new Mst<>(disconnected, engine).getGraph());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package io.github.morven11.algorithm;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.morven11.graphs.CsrGraph;
 import io.github.morven11.graphs.DirectedGraph;
 import io.github.morven11.graphs.Graph;
 import io.github.morven11.graphs.Node;
@@ -49,4 +50,14 @@ class MstDirectedGraphTest {
     assertEquals(20, mst.getMinimumCost());
     assertEquals(expectedGraph, mst.getGraph());
   }
+
+  @Test
+  void testKruskalAlgorithmCsrGraph() {
+    Mst<Integer> expected = new Mst<>(graph);
+    Mst<Integer> mst = new Mst<>(new CsrGraph<>(graph));
+    assertEquals(6, mst.getGraph().getNumNodes());
+    assertEquals(5, mst.getGraph().getNumEdges());
+    assertEquals(expected.getMinimumCost(), mst.getMinimumCost());
+    assertEquals(expected.getGraph(), mst.getGraph());
+  }
 }
@@ -0,0 +1,99 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.EdgeList;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class MstQueryIndexTest {
+
+  @Test
+  void testPathQueries() {
+    Graph<String> graph = new UndirectedGraph<>();
+    graph.addEdge(4, new Node<>("A"), new Node<>("B"));
+    graph.addEdge(1, new Node<>("B"), new Node<>("C"));
+    graph.addEdge(2, new Node<>("A"), new Node<>("C"));
+    graph.addEdge(6, new Node<>("C"), new Node<>("D"));
+    graph.addEdge(7, new Node<>("E"), new Node<>("F"));
+    MstQueryIndex<String> index = new MstQueryIndex<>(graph);
+    assertTrue(index.connected(new Node<>("A"), new Node<>("D")));
+    assertFalse(index.connected(new Node<>("A"), new Node<>("E")));
+    assertFalse(index.connected(new Node<>("A"), new Node<>("Z")));
+    assertEquals(2, index.getMaxEdge(new Node<>("A"), new Node<>("B")));
+    assertEquals(3, index.getPathCost(new Node<>("A"), new Node<>("B")));
+    assertEquals(6, index.getMaxEdge(new Node<>("B"), new Node<>("D")));
+    assertEquals(7, index.getPathCost(new Node<>("D"), new Node<>("B")));
+    assertEquals(7, index.getMaxEdge(new Node<>("F"), new Node<>("E")));
+    assertEquals(0, index.getPathCost(new Node<>("C"), new Node<>("C")));
+    assertEquals(Integer.MIN_VALUE, index.getMaxEdge(new Node<>("C"), new Node<>("C")));
+    assertThrows(IllegalArgumentException.class,
+        () -> index.getMaxEdge(new Node<>("A"), new Node<>("F")));
+    assertThrows(IllegalArgumentException.class,
+        () -> index.getPathCost(new Node<>("A"), new Node<>("Z")));
+  }
+
+  @Test
+  void testMatchesTreeWalk() {
+    Random random = new Random(3);
+    int numNodes = 300;
+    List<Node<Integer>> nodes = new ArrayList<>();
+    for (int i = 0; i < numNodes; i++) {
+      nodes.add(new Node<>(i));
+    }
+    Graph<Integer> graph = new UndirectedGraph<>();
+    for (Node<Integer> node : nodes) {
+      graph.addNode(node);
+    }
+    for (int i = 0; i < 600; i++) {
+      graph.addEdge(random.nextInt(1000) - 200, nodes.get(random.nextInt(numNodes)),
+              nodes.get(random.nextInt(numNodes)));
+    }
+    MinimumSpanningForest<Integer> forest = new MinimumSpanningForest<>(graph);
+    MstQueryIndex<Integer> index = new MstQueryIndex<>(forest);
+    List<List<int[]>> adjacency = new ArrayList<>();
+    for (int i = 0; i < numNodes; i++) {
+      adjacency.add(new ArrayList<>());
+    }
+    for (int component = 0; component < forest.getNumComponents(); component++) {
+      EdgeList tree = forest.getTreeEdges(component);
+      for (int i = 0; i < tree.size(); i++) {
+        adjacency.get(tree.getSource(i)).add(new int[] {tree.getDestination(i), tree.getWeight(i)});
+        adjacency.get(tree.getDestination(i)).add(new int[] {tree.getSource(i), tree.getWeight(i)});
+      }
+    }
+    for (int query = 0; query < 500; query++) {
+      int first = random.nextInt(numNodes);
+      int second = random.nextInt(numNodes);
+      long[] expected = walk(adjacency, first, second, -1);
+      assertEquals(expected != null, index.connected(first, second));
+      if (expected != null && first != second) {
+        assertEquals(expected[0], index.getMaxEdge(first, second));
+        assertEquals(expected[1], index.getPathCost(first, second));
+      }
+    }
+  }
+
+  private static long[] walk(List<List<int[]>> adjacency, int node, int target, int parent) {
+    if (node == target) {
+      return new long[] {Integer.MIN_VALUE, 0};
+    }
+    for (int[] edge : adjacency.get(node)) {
+      if (edge[0] != parent) {
+        long[] rest = walk(adjacency, edge[0], target, node);
+        if (rest != null) {
+          return new long[] {Math.max(rest[0], edge[1]), rest[1] + edge[1]};
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -1,8 +1,10 @@
 package io.github.morven11.algorithm;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.github.morven11.graphs.CsrGraph;
 import io.github.morven11.graphs.Graph;
 import io.github.morven11.graphs.Node;
 import io.github.morven11.graphs.UndirectedGraph;
@@ -48,4 +50,25 @@ class MstUndirectedGraphTest {
     assertEquals(20, mst.getMinimumCost());
     assertEquals(expectedGraph, mst.getGraph());
   }
+
+  @Test
+  void testKruskalAlgorithmCsrGraph() {
+    Mst<Integer> expected = new Mst<>(graph);
+    Mst<Integer> mst = new Mst<>(new CsrGraph<>(graph));
+    assertEquals(6, mst.getGraph().getNumNodes());
+    assertEquals(5, mst.getGraph().getNumEdges());
+    assertEquals(expected.getMinimumCost(), mst.getMinimumCost());
+    assertEquals(expected.getGraph(), mst.getGraph());
+  }
+
+  @Test
+  void testCostDoesNotOverflow() {
+    Graph<Integer> heavy = new UndirectedGraph<>();
+    heavy.addEdge(Integer.MAX_VALUE, node1, node2);
+    heavy.addEdge(Integer.MAX_VALUE, node2, node3);
+    Mst<Integer> mst = new Mst<>(heavy);
+    assertEquals(2L * Integer.MAX_VALUE, mst.getMinimumCostAsLong());
+    assertThrows(ArithmeticException.class, mst::getMinimumCost);
+    assertTrue(mst.toString().endsWith("Minimum Cost: " + 2L * Integer.MAX_VALUE));
+  }
 }
@@ -0,0 +1,28 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.morven11.graphs.DirectedGraph;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import org.junit.jupiter.api.Test;
+
+class PrimTest {
+
+  @Test
+  void testDirectedGraph() {
+    Graph<Integer> directed = new DirectedGraph<>();
+    directed.addEdge(4, new Node<>(1), new Node<>(2));
+    directed.addEdge(1, new Node<>(3), new Node<>(1));
+    directed.addEdge(2, new Node<>(3), new Node<>(2));
+    Mst<Integer> mst = new Mst<>(directed, new Prim());
+    assertEquals(3, mst.getMinimumCost());
+    assertEquals(2, mst.getGraph().getNumEdges());
+  }
+
+  @Test
+  void testArityMustBeAtLeastTwo() {
+    assertThrows(IllegalArgumentException.class, () -> new Prim(1));
+  }
+}
@@ -0,0 +1,76 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.CsrGraph;
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SingleLinkageTest {
+
+  private static Graph<String> graph;
+
+  @BeforeEach
+  void setup() {
+    graph = new UndirectedGraph<>();
+    graph.addEdge(1, new Node<>("A"), new Node<>("B"));
+    graph.addEdge(2, new Node<>("B"), new Node<>("C"));
+    graph.addEdge(10, new Node<>("C"), new Node<>("D"));
+    graph.addEdge(3, new Node<>("D"), new Node<>("E"));
+    graph.addEdge(20, new Node<>("E"), new Node<>("A"));
+    graph.addEdge(4, new Node<>("F"), new Node<>("G"));
+  }
+
+  @Test
+  void testStopAtNumClusters() {
+    SingleLinkage<String> clustering = new SingleLinkage<>(graph, 3);
+    assertEquals(3, clustering.getNumClusters());
+    assertEquals(4, clustering.getNumMerges());
+    int abc = clustering.getCluster(new Node<>("A"));
+    assertEquals(abc, clustering.getCluster(new Node<>("C")));
+    assertEquals(clustering.getCluster(new Node<>("D")), clustering.getCluster(new Node<>("E")));
+    assertNotEquals(abc, clustering.getCluster(new Node<>("D")));
+    assertNotEquals(abc, clustering.getCluster(new Node<>("F")));
+    assertEquals(-1, clustering.getCluster(new Node<>("Z")));
+    assertEquals(4, clustering.getMergeHeight(3));
+  }
+
+  @Test
+  void testDendrogram() {
+    SingleLinkage<String> clustering = new SingleLinkage<>(graph, 1);
+    int numNodes = 7;
+    // the graph has two components, so one merge is missing
+    assertEquals(2, clustering.getNumClusters());
+    assertEquals(numNodes - 2, clustering.getNumMerges());
+    assertEquals(1, clustering.getMergeHeight(0));
+    assertEquals(2, clustering.getMergeSize(0));
+    assertTrue(clustering.getMergeFirst(1) == numNodes
+            || clustering.getMergeSecond(1) == numNodes);
+    assertEquals(3, clustering.getMergeSize(1));
+    assertEquals(10, clustering.getMergeHeight(4));
+    assertEquals(5, clustering.getMergeSize(4));
+    for (int merge = 1; merge < clustering.getNumMerges(); merge++) {
+      assertTrue(clustering.getMergeHeight(merge - 1) <= clustering.getMergeHeight(merge));
+      assertTrue(clustering.getMergeFirst(merge) < numNodes + merge);
+      assertTrue(clustering.getMergeSecond(merge) < numNodes + merge);
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> clustering.getMergeSize(5));
+  }
+
+  @Test
+  void testStopAtMaxDistance() {
+    SingleLinkage<String> clustering = new SingleLinkage<>(graph, 1, 3);
+    assertEquals(3, clustering.getNumMerges());
+    assertEquals(3, new SingleLinkage<>(new CsrGraph<>(graph), 1, 3).getNumMerges());
+    assertEquals(4, clustering.getNumClusters());
+    assertEquals(clustering.getCluster(new Node<>("A")), clustering.getCluster(new Node<>("C")));
+    assertNotEquals(clustering.getCluster(new Node<>("C")), clustering.getCluster(new Node<>("D")));
+    assertThrows(IllegalArgumentException.class, () -> new SingleLinkage<>(graph, 0));
+  }
+}
@@ -0,0 +1,89 @@
+package io.github.morven11.algorithm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.graphs.Graph;
+import io.github.morven11.graphs.Node;
+import io.github.morven11.graphs.UndirectedGraph;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamingMstTest {
+
+  private static final Node<Integer> node1 = new Node<>(1);
+  private static final Node<Integer> node2 = new Node<>(2);
+  private static final Node<Integer> node3 = new Node<>(3);
+  private static final Node<Integer> node4 = new Node<>(4);
+  private static final Node<Integer> node5 = new Node<>(5);
+  private static final Node<Integer> node6 = new Node<>(6);
+  private static StreamingMst<Integer> streamingMst;
+
+  @BeforeEach
+  void setup() {
+    streamingMst = new StreamingMst<>(3);
+    streamingMst.addEdge(3, node1, node2);
+    streamingMst.addEdge(5, node1, node5);
+    streamingMst.addEdge(2, node5, node6);
+    streamingMst.addEdge(7, node6, node4);
+    streamingMst.addEdge(9, node4, node3);
+    streamingMst.addEdge(5, node2, node3);
+    streamingMst.addEdge(6, node2, node5);
+    streamingMst.addEdge(3, node3, node6);
+  }
+
+  @Test
+  void testForestIsACopy() {
+    streamingMst.getForest().clear();
+    assertEquals(5, streamingMst.getForest().size());
+    assertEquals(20, streamingMst.getMinimumCost());
+  }
+
+  @Test
+  void testStreamedTree() {
+    assertEquals(6, streamingMst.getNumNodes());
+    assertEquals(20, streamingMst.getMinimumCost());
+    assertTrue(streamingMst.isSpanningTree());
+    assertEquals(5, streamingMst.getGraph().getNumEdges());
+  }
+
+  @Test
+  void testIsolatedNode() {
+    streamingMst.addNode(new Node<>(7));
+    assertFalse(streamingMst.isSpanningTree());
+    assertEquals(20, streamingMst.getMinimumCost());
+  }
+
+  @Test
+  void testSameCostAsKruskal() {
+    Random random = new Random(5);
+    List<Node<Integer>> nodes = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      nodes.add(new Node<>(i));
+    }
+    Graph<Integer> graph = new UndirectedGraph<>();
+    StreamingMst<Integer> stream = new StreamingMst<>(128);
+    for (int i = 1; i < nodes.size(); i++) {
+      int weight = random.nextInt(1000);
+      Node<Integer> parent = nodes.get(random.nextInt(i));
+      graph.addEdge(weight, nodes.get(i), parent);
+      stream.addEdge(weight, nodes.get(i), parent);
+    }
+    for (int i = 0; i < 3000; i++) {
+      int weight = random.nextInt(1000);
+      Node<Integer> source = nodes.get(random.nextInt(nodes.size()));
+      Node<Integer> destination = nodes.get(random.nextInt(nodes.size()));
+      boolean parallel = graph.getEdgesNode(source).stream()
+              .anyMatch(e -> e.getDestination().equals(destination));
+      if (!parallel && graph.addEdge(weight, source, destination)) {
+        stream.addEdge(weight, source, destination);
+      }
+    }
+    assertEquals(new Mst<>(graph).getMinimumCost(), stream.getMinimumCost());
+    assertTrue(stream.getForest().size() < nodes.size());
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.algorithm.Mst;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AdjacencyStorageTest {
+
+  private static final List<AdjacencyStorage> STORAGES = List.of(
+          AdjacencyStorage.ORDERED, AdjacencyStorage.HASHED, AdjacencyStorage.INDEXED);
+
+  private static Graph<String> build(Graph<String> graph) {
+    Node<String> a = new Node<>("A");
+    Node<String> b = new Node<>("B");
+    Node<String> c = new Node<>("C");
+    Node<String> d = new Node<>("D");
+    assertTrue(graph.addEdge(4, a, b));
+    assertTrue(graph.addEdge(1, b, c));
+    assertTrue(graph.addEdge(3, a, c));
+    assertTrue(graph.addEdge(2, c, d));
+    return graph;
+  }
+
+  @Test
+  void testSameGraph() {
+    Graph<String> expected = build(new UndirectedGraph<>());
+    for (AdjacencyStorage storage : STORAGES) {
+      Graph<String> graph = build(new UndirectedGraph<>(storage));
+      assertEquals(storage, graph.getStorage());
+      assertEquals(expected, graph);
+      assertEquals(expected.getAllEdges(), graph.getAllEdges());
+      assertEquals(6, new Mst<>(graph).getMinimumCost());
+    }
+  }
+
+  @Test
+  void testMutations() {
+    for (AdjacencyStorage storage : STORAGES) {
+      Graph<String> graph = build(new DirectedGraph<>(storage));
+      Node<String> c = graph.getNode("C");
+      assertTrue(graph.updateEdge(3, new Node<>("A"), c, 5));
+      assertNotNull(graph.getEdge(5, new Node<>("A"), c));
+      assertTrue(graph.updateNode(c, "Z"));
+      assertNull(graph.getNode("C"));
+      assertEquals(1, graph.getEdgesNode(new Node<>("Z")).size());
+      assertTrue(graph.removeNode(new Node<>("Z")));
+      assertFalse(graph.containsNode(new Node<>("Z")));
+      assertEquals(3, graph.getNumNodes());
+      assertEquals(1, graph.getNumEdges());
+      assertEquals(3, graph.getAllNodes().size());
+      assertTrue(graph.addNode(new Node<>("C")));
+      assertEquals(4, graph.getNodeId(new Node<>("C")));
+      assertEquals(0, graph.getEdgesNode(new Node<>("C")).size());
+    }
+  }
+
+  @Test
+  void testIndexedOrder() {
+    Graph<String> graph = new UndirectedGraph<>(AdjacencyStorage.INDEXED);
+    graph.addEdge(1, new Node<>("C"), new Node<>("A"));
+    graph.addNode(new Node<>("B"));
+    assertEquals(List.of(new Node<>("C"), new Node<>("A"), new Node<>("B")),
+            List.copyOf(graph.getAllNodes()));
+  }
+}
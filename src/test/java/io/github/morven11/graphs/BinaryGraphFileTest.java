@@ -0,0 +1,122 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.algorithm.Kruskal;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BinaryGraphFileTest {
+
+  private static Graph<String> graph;
+
+  @BeforeEach
+  void setup() {
+    graph = new UndirectedGraph<>();
+    final Node<String> a = new Node<>("A");
+    final Node<String> b = new Node<>("B");
+    final Node<String> c = new Node<>("Ciudad de M\u00e9xico");
+    assertTrue(graph.addEdge(4, a, b));
+    assertTrue(graph.addEdge(-2, b, c));
+    assertTrue(graph.addEdge(7, c, a));
+  }
+
+  @Test
+  void testWriteAndRead() throws IOException {
+    Path path = Files.createTempFile("graph", ".bin");
+    try {
+      new BinaryGraphWriter<String>(s -> s).write(graph, path);
+      try (BinaryGraphReader<String> reader = new BinaryGraphReader<>(path, s -> s)) {
+        assertFalse(reader.isDirected());
+        assertEquals(3, reader.getNumNodes());
+        assertEquals(3, reader.getNumEdges());
+        assertEquals(3, reader.toEdgeList().size());
+        assertEquals(graph, reader.toGraph());
+        assertEquals(graph.getNumEdges(), reader.toGraph().getNumEdges());
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void testDirectedGraph() throws IOException {
+    Graph<Integer> directed = new DirectedGraph<>();
+    directed.addEdge(3, new Node<>(1), new Node<>(2));
+    directed.addEdge(5, new Node<>(2), new Node<>(1));
+    Path path = Files.createTempFile("graph", ".bin");
+    try {
+      new BinaryGraphWriter<Integer>(String::valueOf).write(directed, path);
+      try (BinaryGraphReader<Integer> reader = new BinaryGraphReader<>(path, Integer::valueOf)) {
+        assertTrue(reader.isDirected());
+        assertEquals(2, reader.getNumEdges());
+        assertEquals(3, reader.getWeight(0));
+        assertEquals(Integer.valueOf(1), reader.getNode(reader.getSource(0)).getElement());
+        assertEquals(directed, reader.toGraph());
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void testWrongFile() throws IOException {
+    Path path = Files.createTempFile("graph", ".bin");
+    try {
+      Files.write(path, new byte[64]);
+      assertThrows(IOException.class, () -> new BinaryGraphReader<String>(path, s -> s));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void testCorruptFile() throws IOException {
+    Path path = Files.createTempFile("graph", ".bin");
+    try {
+      new BinaryGraphWriter<String>(s -> s).write(graph, path);
+      byte[] bytes = Files.readAllBytes(path);
+      int edges = 32 + (int) ByteBuffer.wrap(bytes).getLong(24);
+      Files.write(path, Arrays.copyOf(bytes, bytes.length - 5));
+      assertThrows(IOException.class, () -> new BinaryGraphReader<String>(path, s -> s));
+      byte[] negative = bytes.clone();
+      ByteBuffer.wrap(negative).putInt(12, -1);
+      Files.write(path, negative);
+      assertThrows(IOException.class, () -> new BinaryGraphReader<String>(path, s -> s));
+      byte[] huge = bytes.clone();
+      ByteBuffer.wrap(huge).putInt(12, Integer.MAX_VALUE);
+      Files.write(path, huge);
+      assertThrows(IOException.class, () -> new BinaryGraphReader<String>(path, s -> s));
+      byte[] outOfRange = bytes.clone();
+      ByteBuffer.wrap(outOfRange).putInt(edges + Integer.BYTES, 3);
+      Files.write(path, outOfRange);
+      assertThrows(IOException.class, () -> new BinaryGraphReader<String>(path, s -> s));
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Test
+  void testKruskalOnMappedFile() throws IOException {
+    Path path = Files.createTempFile("graph", ".bin");
+    try {
+      new BinaryGraphWriter<String>(s -> s).write(graph, path);
+      try (BinaryGraphReader<String> reader = new BinaryGraphReader<>(path, s -> s)) {
+        EdgeList tree = new Kruskal().compute(reader);
+        assertEquals(2, tree.size());
+        assertEquals(-2, tree.getWeight(0));
+        assertEquals(4, tree.getWeight(1));
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+}
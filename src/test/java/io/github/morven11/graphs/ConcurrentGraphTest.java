@@ -0,0 +1,191 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.algorithm.MinimumSpanningForest;
+import io.github.morven11.algorithm.Mst;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentGraphTest {
+
+  private static void runAll(List<Runnable> tasks) throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    for (Runnable task : tasks) {
+      threads.add(new Thread(task));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  @Test
+  void testConcurrentWriters() throws InterruptedException {
+    ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(false);
+    int numThreads = 16;
+    int numNodes = 2000;
+    List<Runnable> tasks = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int first = t;
+      tasks.add(() -> {
+        for (int i = first + 1; i < numNodes; i += numThreads) {
+          graph.addEdge(i % 7, new Node<>(i), new Node<>(i - 1));
+          graph.addEdge(100, new Node<>(i), new Node<>(i / 2));
+        }
+      });
+    }
+    runAll(tasks);
+    Graph<Integer> expected = new UndirectedGraph<>();
+    for (int i = 1; i < numNodes; i++) {
+      expected.addEdge(i % 7, new Node<>(i), new Node<>(i - 1));
+      expected.addEdge(100, new Node<>(i), new Node<>(i / 2));
+    }
+    assertEquals(expected.getNumNodes(), graph.getNumNodes());
+    assertEquals(expected.getNumEdges(), graph.getNumEdges());
+    Graph<Integer> copy = graph.copy();
+    assertEquals(expected, copy);
+    assertEquals(expected.getNumEdges(), copy.getNumEdges());
+    assertEquals(new Mst<>(expected).getMinimumCost(), new Mst<>(graph).getMinimumCost());
+  }
+
+  @Test
+  void testListenerEventsDoNotOverlap() throws InterruptedException {
+    ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(false);
+    AtomicInteger inside = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+    int[] events = new int[1];
+    GraphListener<Integer> listener = new GraphListener<>() {
+      @Override
+      public void edgeAdded(Edge<Integer> edge) {
+        if (inside.incrementAndGet() > 1) {
+          overlaps.incrementAndGet();
+        }
+        events[0]++;
+        Thread.yield();
+        inside.decrementAndGet();
+      }
+    };
+    graph.addListener(listener);
+    int numThreads = 8;
+    List<Runnable> tasks = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int first = t;
+      tasks.add(() -> {
+        for (int i = first + 1; i < 4000; i += numThreads) {
+          graph.addEdge(1, new Node<>(i), new Node<>(-i));
+        }
+      });
+    }
+    runAll(tasks);
+    assertEquals(0, overlaps.get());
+    assertEquals(3999, events[0]);
+    assertTrue(graph.removeListener(listener));
+    assertTrue(graph.addEdge(1, new Node<>(0), new Node<>(-4000)));
+    assertEquals(3999, events[0]);
+  }
+
+  @Test
+  void testConcurrentRemovals() throws InterruptedException {
+    ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(true, AdjacencyStorage.HASHED, 8);
+    for (int i = 1; i < 1000; i++) {
+      assertTrue(graph.addEdge(1, new Node<>(i), new Node<>(0)));
+    }
+    List<Runnable> tasks = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int first = t;
+      tasks.add(() -> {
+        for (int i = first + 1; i < 1000; i += 4) {
+          if (i % 2 == 0) {
+            graph.removeEdge(1, new Node<>(i), new Node<>(0));
+          } else {
+            graph.updateEdge(1, new Node<>(i), new Node<>(0), 5);
+          }
+        }
+      });
+    }
+    runAll(tasks);
+    assertEquals(500, graph.getNumEdges());
+    assertEquals(graph.getNumEdges(), graph.getAllEdges().size());
+    assertNotNull(graph.getEdge(5, new Node<>(3), new Node<>(0)));
+    assertTrue(graph.removeNode(new Node<>(0)));
+    assertEquals(0, graph.getNumEdges());
+    assertEquals(999, graph.getNumNodes());
+    assertTrue(graph.copy() instanceof DirectedGraph);
+  }
+
+  @Test
+  void testSnapshotWhileWriting() throws InterruptedException {
+    ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(false);
+    for (int i = 1; i < 100; i++) {
+      graph.addEdge(i, new Node<>(i), new Node<>(i - 1));
+    }
+    CsrGraph<Integer> before = graph.snapshot();
+    assertSame(before, graph.snapshot());
+    long version = graph.getVersion();
+    List<Runnable> tasks = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int first = t;
+      tasks.add(() -> {
+        for (int i = 100 + first; i < 500; i += 4) {
+          graph.addEdge(1, new Node<>(i), new Node<>(i - 100));
+        }
+      });
+    }
+    tasks.add(() -> {
+      for (int i = 0; i < 50; i++) {
+        // the edges always make a forest, so all of them are in its trees
+        CsrGraph<Integer> snapshot = graph.snapshot();
+        MinimumSpanningForest<Integer> forest =
+                new MinimumSpanningForest<>(snapshot, ForkJoinPool.commonPool());
+        int treeEdges = 0;
+        for (int component = 0; component < forest.getNumComponents(); component++) {
+          treeEdges += forest.getTreeEdges(component).size();
+        }
+        assertEquals(snapshot.getNumSlots() / 2, treeEdges);
+      }
+    });
+    runAll(tasks);
+    assertEquals(100, before.getNumNodes());
+    assertEquals(99 * 100 / 2, new Mst<>(before).getMinimumCost());
+    CsrGraph<Integer> after = graph.snapshot();
+    assertNotSame(before, after);
+    assertEquals(500, after.getNumNodes());
+    assertEquals(version + 400 + 400, graph.getVersion());
+  }
+
+  @Test
+  void testReadsMatchTheWrappedGraph() {
+    for (boolean directed : new boolean[] {true, false}) {
+      ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(directed);
+      Graph<Integer> plain = directed ? new DirectedGraph<>() : new UndirectedGraph<>();
+      int[][] edges = {{4, 2, 1}, {3, 1, 1}, {7, 2, 3}, {2, 3, 1}, {5, 1, 2}};
+      for (int[] edge : edges) {
+        graph.addEdge(edge[0], new Node<>(edge[1]), new Node<>(edge[2]));
+        plain.addEdge(edge[0], new Node<>(edge[1]), new Node<>(edge[2]));
+      }
+      assertEquals(plain.getAdjSets(), graph.getAdjSets());
+      assertEquals(plain.getAllEdges(), graph.getAllEdges());
+      assertEquals(plain.toString(), graph.toString());
+      assertEquals(plain.hashCode(), graph.hashCode());
+      assertEquals(plain.hasEdge(7, new Node<>(3), new Node<>(2)),
+              graph.hasEdge(7, new Node<>(3), new Node<>(2)));
+      assertEquals(4, graph.getWeight(new Node<>(2), new Node<>(1)));
+
+      // the self loop is counted once, the edges into the node are counted too
+      assertTrue(graph.removeNode(new Node<>(1)));
+      assertTrue(plain.removeNode(new Node<>(1)));
+      assertEquals(plain.getNumEdges(), graph.getNumEdges());
+      assertEquals(plain.getAllEdges(), graph.getAllEdges());
+    }
+  }
+}
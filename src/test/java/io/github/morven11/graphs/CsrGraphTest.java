@@ -0,0 +1,131 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.morven11.algorithm.Mst;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CsrGraphTest {
+
+  private static final Node<String> a = new Node<>("A");
+  private static final Node<String> b = new Node<>("B");
+  private static final Node<String> c = new Node<>("C");
+  private static Graph<String> graph;
+
+  @BeforeEach
+  void setup() {
+    graph = new UndirectedGraph<>();
+    assertTrue(graph.addEdge(4, a, b));
+    assertTrue(graph.addEdge(2, b, c));
+  }
+
+  @Test
+  void testUndirectedCopy() {
+    CsrGraph<String> csr = new CsrGraph<>(graph);
+    assertFalse(csr.isDirected());
+    assertEquals(3, csr.getNumNodes());
+    assertEquals(4, csr.getNumSlots());
+    int idB = csr.indexOf(b);
+    assertEquals(b, csr.getNode(idB));
+    assertEquals(2, csr.getDegree(idB));
+    assertEquals(-1, csr.indexOf(new Node<>("Z")));
+  }
+
+  @Test
+  void testNodesAreNotShared() {
+    CsrGraph<String> csr = graph.snapshot();
+    int idA = csr.indexOf(a);
+    assertNotSame(csr.getNode(idA), csr.getNode(idA));
+    csr.getNode(idA).setElement("Z");
+    Graph<String> tree = new Mst<>(csr).getGraph();
+    assertTrue(tree.updateNode(new Node<>("B"), "Y"));
+    assertEquals(a, csr.getNode(idA));
+    assertEquals(idA, csr.indexOf(a));
+    assertEquals(b, csr.getNode(csr.indexOf(b)));
+    assertSame(csr, graph.snapshot());
+    assertEquals(6, new Mst<>(graph.snapshot()).getMinimumCost());
+  }
+
+  @Test
+  void testDirectedCopy() {
+    Graph<String> directed = new DirectedGraph<>();
+    directed.addEdge(7, a, c);
+    CsrGraph<String> csr = new CsrGraph<>(directed);
+    assertTrue(csr.isDirected());
+    int idA = csr.indexOf(a);
+    assertEquals(1, csr.getDegree(idA));
+    int slot = csr.getOffset(idA);
+    assertEquals(c, csr.getNode(csr.getTarget(slot)));
+    assertEquals(7, csr.getWeight(slot));
+    assertEquals(0, csr.getDegree(csr.indexOf(c)));
+  }
+
+  @Test
+  void testToEdgeList() {
+    CsrGraph<String> csr = new CsrGraph<>(graph);
+    EdgeList edges = csr.toEdgeList();
+    assertEquals(2, edges.size());
+    for (int i = 0; i < edges.size(); i++) {
+      assertTrue(edges.getSource(i) < edges.getDestination(i));
+    }
+  }
+
+  @Test
+  void testSnapshotFollowsVersion() {
+    Graph<String> directed = new DirectedGraph<>();
+    Node<String> x = new Node<>("X");
+    directed.addEdge(1, x, new Node<>("Y"));
+    long version = directed.getVersion();
+    CsrGraph<String> before = directed.snapshot();
+    assertSame(before, directed.snapshot());
+    assertFalse(directed.addEdge(1, x, new Node<>("Y")));
+    assertEquals(version, directed.getVersion());
+    assertSame(before, directed.snapshot());
+    assertTrue(directed.updateNode(x, "W"));
+    assertTrue(directed.getVersion() > version);
+    CsrGraph<String> after = directed.snapshot();
+    assertNotSame(before, after);
+    assertTrue(before.indexOf(new Node<>("X")) >= 0);
+    assertEquals(-1, before.indexOf(new Node<>("W")));
+    assertTrue(after.indexOf(new Node<>("W")) >= 0);
+  }
+
+  @Test
+  void testSnapshotHandedToReader() throws InterruptedException {
+    Graph<Integer> writer = new UndirectedGraph<>();
+    int rounds = 50;
+    BlockingQueue<CsrGraph<Integer>> snapshots = new ArrayBlockingQueue<>(rounds);
+    int[] expectedEdges = new int[rounds];
+    int[] seenEdges = new int[rounds];
+    Thread reader = new Thread(() -> {
+      try {
+        for (int round = 0; round < rounds; round++) {
+          seenEdges[round] = snapshots.take().toEdgeList().size();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    reader.start();
+    for (int round = 0; round < rounds; round++) {
+      for (int i = 0; i < 20; i++) {
+        writer.addEdge(i, new Node<>(round * 20 + i), new Node<>(round * 20 + i + 1));
+      }
+      CsrGraph<Integer> snapshot = writer.snapshot();
+      expectedEdges[round] = snapshot.toEdgeList().size();
+      snapshots.put(snapshot);
+    }
+    reader.join();
+    for (int round = 0; round < rounds; round++) {
+      assertEquals(20 * (round + 1), expectedEdges[round]);
+      assertEquals(expectedEdges[round], seenEdges[round]);
+    }
+  }
+}
@@ -1,9 +1,13 @@
 package io.github.morven11.graphs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -83,4 +87,45 @@ class DirectedGraphEdgeTest {
     assertEquals(expectedNumberOfNodes, graph.getNumNodes());
     assertEquals(expectedNumberOfEdges, graph.getNumEdges());
   }
+
+  @Test
+  void testAddParallelEdge() {
+    Node<String> newYork = new Node<>("New York");
+    Node<String> sanFrancisco = new Node<>("San Francisco");
+    assertFalse(graph.addEdge(7, newYork, sanFrancisco));
+    assertNull(graph.getEdge(7, newYork, sanFrancisco));
+    assertTrue(graph.addEdge(7, sanFrancisco, newYork));
+    assertEquals(expectedNumberOfEdges + 1, graph.getNumEdges());
+  }
+
+  @Test
+  void testUpdateEdgeKeepsOrder() {
+    Node<String> newYork = new Node<>("New York");
+    Node<String> sanFrancisco = new Node<>("San Francisco");
+    assertTrue(graph.updateEdge(1, newYork, sanFrancisco, 9));
+    Edge<String> last = null;
+    for (Edge<String> edge : graph.getEdgesNode(newYork)) {
+      last = edge;
+    }
+    assertEquals("New York -> San Francisco | weight: 9", last.toString());
+    assertTrue(graph.removeEdge(9, newYork, sanFrancisco));
+    assertEquals(expectedNumberOfEdges - 1, graph.getNumEdges());
+  }
+
+  @Test
+  void testAllEdgesFollowChanges() {
+    Node<String> newYork = new Node<>("New York");
+    Node<String> boston = new Node<>("Boston");
+    Set<Edge<String>> allEdges = graph.getAllEdges();
+    assertSame(allEdges, graph.getAllEdges());
+    assertEquals(expectedNumberOfEdges, allEdges.size());
+    assertTrue(graph.updateEdge(2, newYork, boston, 0));
+    assertEquals("New York -> Boston | weight: 0", allEdges.iterator().next().toString());
+    assertTrue(graph.addEdge(7, boston, newYork));
+    assertTrue(graph.removeNode(new Node<>("Detroit")));
+    assertEquals(graph.getNumEdges(), allEdges.size());
+    assertTrue(graph.updateNode(newYork, "Albany"));
+    assertEquals("Albany -> Boston | weight: 0", allEdges.iterator().next().toString());
+    assertThrows(UnsupportedOperationException.class, () -> allEdges.clear());
+  }
 }
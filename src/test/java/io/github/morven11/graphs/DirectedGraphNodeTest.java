@@ -83,6 +83,7 @@ class DirectedGraphNodeTest {
     Node<String> detroit = new Node<>("Detroit");
     Node<String> beforeUpdateNode = graph.getNode("Detroit");
     assertEquals("Detroit", beforeUpdateNode.getElement());
+    assertFalse(graph.updateNode(null, "Z"));
     assertTrue(graph.updateNode(detroit, "San Diego"));
     Node<String> afterUpdateNode = graph.getNode("Detroit");
     assertNull(afterUpdateNode);
@@ -91,4 +92,41 @@ class DirectedGraphNodeTest {
     assertEquals(expectedNumberOfNodes, graph.getNumNodes());
     assertEquals(expectedNumberOfEdges, graph.getNumEdges());
   }
+
+  @Test
+  void testIncomingEdges() {
+    Set<Edge<String>> incoming = ((DirectedGraph<String>) graph)
+            .getIncomingEdges(new Node<>("Boston"));
+    assertEquals(3, incoming.size());
+    assertTrue(incoming.contains(new Edge<>(2, new Node<>("New York"), new Node<>("Boston"))));
+    assertNull(((DirectedGraph<String>) graph).getIncomingEdges(new Node<>("Miami")));
+  }
+
+  @Test
+  void testIncomingIndex() {
+    DirectedGraph<String> indexed = new DirectedGraph<>(AdjacencyStorage.HASHED, true);
+    assertTrue(indexed.isIncomingIndexed());
+    for (Edge<String> edge : graph.getAllEdges()) {
+      assertTrue(indexed.addEdge(edge.getWeight(), edge.getSource(), edge.getDestination()));
+    }
+    Node<String> boston = indexed.getNode("Boston");
+    assertTrue(indexed.addEdge(3, boston, boston));
+    assertEquals(4, indexed.getIncomingEdges(new Node<>("Boston")).size());
+    assertTrue(indexed.updateNode(new Node<>("Boston"), "Salem"));
+    Set<Edge<String>> incoming = indexed.getIncomingEdges(new Node<>("Salem"));
+    assertEquals(4, incoming.size());
+    assertTrue(incoming.contains(new Edge<>(3, new Node<>("Salem"), new Node<>("Salem"))));
+    assertEquals(2, indexed.getIncomingEdges(new Node<>("Chicago")).size());
+    assertTrue(indexed.getIncomingEdges(new Node<>("Chicago"))
+            .contains(new Edge<>(1, new Node<>("Salem"), new Node<>("Chicago"))));
+    assertTrue(indexed.removeEdge(2, new Node<>("New York"), new Node<>("Salem")));
+    assertEquals(3, indexed.getIncomingEdges(new Node<>("Salem")).size());
+    assertTrue(indexed.removeNode(new Node<>("Salem")));
+    assertEquals(expectedNumberOfNodes - 1, indexed.getNumNodes());
+    assertEquals(expectedNumberOfEdges - 4, indexed.getNumEdges());
+    assertEquals(indexed.getNumEdges(), indexed.getAllEdges().size());
+    assertEquals(Set.of(new Edge<>(1, new Node<>("Detroit"), new Node<>("Chicago"))),
+            indexed.getIncomingEdges(new Node<>("Chicago")));
+    assertEquals(2, indexed.getIncomingEdges(new Node<>("Philadelphia")).size());
+  }
 }
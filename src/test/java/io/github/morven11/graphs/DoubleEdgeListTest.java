@@ -0,0 +1,53 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DoubleEdgeListTest {
+
+  @Test
+  void testSortSpecialValues() {
+    DoubleEdgeList edges = new DoubleEdgeList(0);
+    edges.add(0.0, 0, 1);
+    edges.add(Double.POSITIVE_INFINITY, 1, 2);
+    edges.add(-0.5, 2, 3);
+    edges.add(-0.0, 3, 0);
+    edges.add(Double.NEGATIVE_INFINITY, 0, 2);
+    edges.add(1e-300, 1, 3);
+    edges.sortByWeight();
+    assertEquals(Double.NEGATIVE_INFINITY, edges.getWeight(0));
+    assertEquals(-0.5, edges.getWeight(1));
+    assertEquals(3, edges.getSource(2));
+    assertEquals(0, edges.getSource(3));
+    assertEquals(1e-300, edges.getWeight(4));
+    assertEquals(Double.POSITIVE_INFINITY, edges.getWeight(5));
+  }
+
+  @Test
+  void testNaNIsRejected() {
+    DoubleEdgeList edges = new DoubleEdgeList(1);
+    assertThrows(IllegalArgumentException.class, () -> edges.add(Double.NaN, 0, 1));
+    assertEquals(0, edges.size());
+  }
+
+  @Test
+  void testSortIsStable() {
+    Random random = new Random(9);
+    DoubleEdgeList edges = new DoubleEdgeList(3000);
+    for (int i = 0; i < 3000; i++) {
+      double weight = i % 2 == 0 ? random.nextGaussian() * 1e6 : random.nextInt(10) / 4.0;
+      edges.add(weight, i, i);
+    }
+    edges.sortByWeight();
+    for (int i = 1; i < edges.size(); i++) {
+      assertTrue(edges.getWeight(i - 1) <= edges.getWeight(i));
+      if (edges.getWeight(i - 1) == edges.getWeight(i)) {
+        assertTrue(edges.getSource(i - 1) < edges.getSource(i));
+      }
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EdgeListTest {
+
+  private static EdgeList edges;
+
+  @BeforeEach
+  void setup() {
+    edges = new EdgeList(0);
+    edges.add(5, 0, 1);
+    edges.add(-2, 1, 2);
+    edges.add(5, 2, 3);
+    edges.add(1, 3, 0);
+  }
+
+  @Test
+  void testAddEdge() {
+    assertEquals(4, edges.size());
+    assertEquals(-2, edges.getWeight(1));
+    assertEquals(1, edges.getSource(1));
+    assertEquals(2, edges.getDestination(1));
+  }
+
+  @Test
+  void testSortSmallList() {
+    edges.sortByWeight();
+    assertEquals(-2, edges.getWeight(0));
+    assertEquals(1, edges.getWeight(1));
+    assertEquals(0, edges.getSource(2));
+    assertEquals(2, edges.getSource(3));
+  }
+
+  @Test
+  void testRadixSortIsStable() {
+    Random random = new Random(11);
+    EdgeList big = new EdgeList(5000);
+    for (int i = 0; i < 5000; i++) {
+      int weight = i % 3 == 0 ? random.nextInt() : random.nextInt(100) - 50;
+      big.add(weight, i, i);
+    }
+    big.sortByWeight();
+    for (int i = 1; i < big.size(); i++) {
+      assertTrue(big.getWeight(i - 1) <= big.getWeight(i));
+      if (big.getWeight(i - 1) == big.getWeight(i)) {
+        assertTrue(big.getSource(i - 1) < big.getSource(i));
+      }
+      assertEquals(big.getSource(i), big.getDestination(i));
+    }
+  }
+}
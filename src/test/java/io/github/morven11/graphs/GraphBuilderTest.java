@@ -0,0 +1,63 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GraphBuilderTest {
+
+  private static final Node<String> A = new Node<>("A");
+  private static final Node<String> B = new Node<>("B");
+  private static final Node<String> C = new Node<>("C");
+  private static final Node<String> D = new Node<>("D");
+
+  @Test
+  void testUndirectedMatchesAddEdge() {
+    Graph<String> expected = new UndirectedGraph<>();
+    GraphBuilder<String> builder = new GraphBuilder<>(false);
+    int[][] edges = {{4, 0, 1}, {1, 1, 2}, {9, 2, 1}, {3, 0, 2}, {2, 2, 3}, {5, 3, 3}};
+    List<Node<String>> nodes = List.of(A, B, C, D);
+    for (int[] edge : edges) {
+      expected.addEdge(edge[0], nodes.get(edge[1]), nodes.get(edge[2]));
+      builder.addEdge(edge[0], nodes.get(edge[1]), nodes.get(edge[2]));
+    }
+    Graph<String> graph = builder.build();
+    assertEquals(expected, graph);
+    assertEquals(expected.getNumEdges(), graph.getNumEdges());
+    assertEquals(expected.getNumNodes(), graph.getNumNodes());
+    assertNotNull(graph.getEdge(1, C, B));
+    assertNull(graph.getEdge(9, C, B));
+  }
+
+  @Test
+  void testDirectedFromEdgeList() {
+    EdgeList edges = new EdgeList(4);
+    edges.add(1, 0, 1);
+    edges.add(2, 1, 0);
+    edges.add(3, 0, 1);
+    Graph<String> graph = new GraphBuilder<String>(true, AdjacencyStorage.HASHED)
+            .addNode(D)
+            .addEdges(edges, List.of(A, B))
+            .build();
+    assertTrue(graph instanceof DirectedGraph);
+    assertEquals(3, graph.getNumNodes());
+    assertEquals(2, graph.getNumEdges());
+    assertEquals(0, graph.getEdgesNode(D).size());
+    assertNotNull(graph.getEdge(1, A, B));
+    assertNotNull(graph.getEdge(2, B, A));
+    assertTrue(graph.addEdge(6, B, D));
+    assertTrue(graph.removeNode(A));
+    assertEquals(1, graph.getNumEdges());
+  }
+
+  @Test
+  void testNullNode() {
+    GraphBuilder<String> builder = new GraphBuilder<>(true);
+    assertThrows(IllegalArgumentException.class, () -> builder.addEdge(1, A, null));
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongEdgeListTest {
+
+  @Test
+  void testSortWholeRange() {
+    LongEdgeList edges = new LongEdgeList(0);
+    edges.add(Long.MAX_VALUE, 0, 1);
+    edges.add(-1L, 1, 2);
+    edges.add(Long.MIN_VALUE, 2, 3);
+    edges.add(1L << 40, 3, 0);
+    edges.sortByWeight();
+    assertEquals(4, edges.size());
+    assertEquals(Long.MIN_VALUE, edges.getWeight(0));
+    assertEquals(2, edges.getSource(0));
+    assertEquals(-1L, edges.getWeight(1));
+    assertEquals(1L << 40, edges.getWeight(2));
+    assertEquals(0, edges.getDestination(2));
+    assertEquals(Long.MAX_VALUE, edges.getWeight(3));
+  }
+
+  @Test
+  void testSortIsStable() {
+    Random random = new Random(5);
+    LongEdgeList edges = new LongEdgeList(3000);
+    for (int i = 0; i < 3000; i++) {
+      long weight = i % 2 == 0 ? random.nextLong() : random.nextInt(20) + (1L << 33);
+      edges.add(weight, i, i);
+    }
+    edges.sortByWeight();
+    for (int i = 1; i < edges.size(); i++) {
+      assertTrue(edges.getWeight(i - 1) <= edges.getWeight(i));
+      if (edges.getWeight(i - 1) == edges.getWeight(i)) {
+        assertTrue(edges.getSource(i - 1) < edges.getSource(i));
+      }
+      assertEquals(edges.getSource(i), edges.getDestination(i));
+    }
+  }
+}
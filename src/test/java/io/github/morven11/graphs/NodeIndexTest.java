@@ -0,0 +1,52 @@
+package io.github.morven11.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NodeIndexTest {
+
+  private static NodeIndex<String> index;
+
+  @BeforeEach
+  void setup() {
+    index = new NodeIndex<>();
+    assertEquals(0, index.intern(new Node<>("A")));
+    assertEquals(1, index.intern(new Node<>("B")));
+    assertEquals(0, index.intern(new Node<>("A")));
+  }
+
+  @Test
+  void testIntern() {
+    assertEquals(2, index.size());
+    assertEquals(1, index.indexOf("B"));
+    assertEquals(-1, index.indexOf("C"));
+    assertEquals("B", index.getNodeById(1).getElement());
+  }
+
+  @Test
+  void testRemoveKeepsIds() {
+    assertEquals(0, index.remove("A"));
+    assertNull(index.getNodeById(0));
+    assertEquals(2, index.intern(new Node<>("A")));
+    assertEquals(3, index.getIdBound());
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void testGraphNodeIds() {
+    Graph<String> graph = new UndirectedGraph<>();
+    Node<String> a = new Node<>("A");
+    Node<String> b = new Node<>("B");
+    graph.addEdge(1, a, b);
+    int idB = graph.getNodeId(b);
+    assertEquals(b, graph.getNodeById(idB));
+    graph.updateNode(b, "Z");
+    assertEquals(idB, graph.getNodeId(new Node<>("Z")));
+    assertEquals(-1, graph.getNodeId(new Node<>("B")));
+    graph.removeNode(a);
+    assertNull(graph.getNodeById(graph.getNodeIdBound() - 2));
+  }
+}
@@ -1,7 +1,11 @@
 package io.github.morven11.graphs;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -96,4 +100,81 @@ class UndirectedGraphEdgeTest {
     assertEquals(expectedNumberOfNodes, graph.getNumNodes());
     assertEquals(expectedNumberOfEdges, graph.getNumEdges());
   }
+
+  @Test
+  void testEdgeSharedByBothEnds() {
+    Node<String> a = new Node<>("A");
+    Node<String> b = new Node<>("B");
+    Edge<String> fromA = graph.getEdge(1, a, b);
+    Edge<String> fromB = graph.getEdge(1, b, a);
+    assertEquals(a, fromA.getSource());
+    assertEquals(b, fromB.getSource());
+    assertTrue(graph.getEdgesNode(b).contains(fromB));
+    assertFalse(graph.getEdgesNode(b).contains(fromA));
+    for (Edge<String> edge : graph.getEdgesNode(b)) {
+      assertEquals(b, edge.getSource());
+    }
+    assertTrue(graph.updateEdge(1, b, a, 7));
+    assertEquals(7, fromA.getWeight());
+    assertEquals(7, fromB.getWeight());
+    assertEquals(expectedNumberOfEdges, graph.getAllEdges().size());
+  }
+
+  @Test
+  void testAdjSetsKeepTheStoredOrientation() {
+    Node<String> a = new Node<>("A");
+    Node<String> b = new Node<>("B");
+    Edge<String> stored = null;
+    for (Edge<String> edge : graph.getAdjSets().get(b)) {
+      if (edge.getSource().equals(a)) {
+        stored = edge;
+      }
+    }
+    assertEquals(b, stored.getDestination());
+    for (Edge<String> edge : graph.getAdjSets().get(a)) {
+      if (edge.getDestination().equals(b)) {
+        assertSame(stored, edge);
+      }
+    }
+  }
+
+  @Test
+  void testEqualsIgnoresOrientation() {
+    Graph<String> reversed = new UndirectedGraph<>();
+    for (Edge<String> edge : graph.getAllEdges()) {
+      reversed.addEdge(edge.getWeight(), edge.getDestination(), edge.getSource());
+    }
+    assertEquals(graph, reversed);
+    assertEquals(graph.toString(), reversed.toString());
+  }
+
+  @Test
+  void testPrimitiveAndBoxedWeights() {
+    Node<String> a = new Node<>("A");
+    Node<String> g = new Node<>("G");
+    assertTrue(graph.addEdge(1000, g, a));
+    assertSame(graph.getEdge(1000, a, g), graph.getEdge(Integer.valueOf(1000), a, g));
+    assertNull(graph.getEdge(null, a, g));
+    assertFalse(graph.addEdge((Integer) null, a, new Node<>("H")));
+    assertFalse(graph.removeEdge((Integer) null, a, g));
+    assertTrue(graph.updateEdge(Integer.valueOf(1000), a, g, 2000));
+    assertTrue(graph.removeEdge(2000, g, a));
+    assertEquals(expectedNumberOfEdges, graph.getNumEdges());
+  }
+
+  @Test
+  void testProbesFromEitherEnd() {
+    Node<String> a = new Node<>("A");
+    Node<String> b = new Node<>("B");
+    assertTrue(graph.hasEdge(1, a, b));
+    assertTrue(graph.hasEdge(1, b, a));
+    assertFalse(graph.hasEdge(2, a, b));
+    assertFalse(graph.hasEdge(1, a, new Node<>("Z")));
+    assertTrue(graph.updateEdge(1, b, a, 7));
+    assertEquals(7, graph.getWeight(a, b));
+    assertEquals(7, graph.getWeight(b, a));
+    assertThrows(IllegalArgumentException.class, () -> graph.getWeight(a, new Node<>("D")));
+    assertNotSame(graph.getEdge(7, b, a), graph.getEdge(7, b, a));
+    assertEquals(graph.getEdge(7, b, a), graph.getEdge(7, b, a));
+  }
 }
@@ -82,6 +82,7 @@ class UndirectedGraphNodeTest {
     Node<String> a = new Node<>("A");
     Node<String> beforeUpdateNode = graph.getNode("A");
     assertEquals("A", beforeUpdateNode.getElement());
+    assertFalse(graph.updateNode(null, "Z"));
     assertTrue(graph.updateNode(a, "Z"));
     Node<String> afterUpdateNode = graph.getNode("A");
     assertNull(afterUpdateNode);
@@ -90,4 +91,16 @@ class UndirectedGraphNodeTest {
     assertEquals(expectedNumberOfNodes, graph.getNumNodes());
     assertEquals(expectedNumberOfEdges, graph.getNumEdges());
   }
+
+  @Test
+  void testUpdateNodeKeepsEdges() {
+    assertTrue(graph.updateNode(new Node<>("A"), "Z"));
+    Node<String> z = new Node<>("Z");
+    Node<String> b = new Node<>("B");
+    assertEquals("Z -> B | weight: 1", graph.getEdge(1, z, b).toString());
+    assertEquals("B -> Z | weight: 1", graph.getEdge(1, b, z).toString());
+    assertFalse(graph.updateNode(z, "B"));
+    assertTrue(graph.removeNode(z));
+    assertEquals(expectedNumberOfEdges - 2, graph.getNumEdges());
+  }
 }